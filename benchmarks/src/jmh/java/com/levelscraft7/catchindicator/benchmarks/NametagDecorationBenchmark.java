@@ -0,0 +1,59 @@
+package com.levelscraft7.catchindicator.benchmarks;
+
+import com.cobblemon.mod.common.entity.pokemon.PokemonEntity;
+import com.cobblemon.mod.common.pokemon.Species;
+import com.levelscraft7.catchindicator.client.NametagDecorationCache;
+import com.levelscraft7.catchindicator.client.NametagDecorator;
+import com.levelscraft7.catchindicator.core.DiscoveryStatus;
+import net.minecraft.network.chat.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of decorating one Pokémon nametag, i.e. what {@code EntityRendererNameTagMixin} adds to a
+ * drawn nametag, on a cache miss and on a hit. Owned Pokémon mark their species caught on the first call, so
+ * their steady state is the caught path whatever the Pokédex says.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class NametagDecorationBenchmark {
+
+    @Param({"caught", "seen", "unknown"})
+    public String status;
+
+    @Param({"wild", "owned"})
+    public String ownership;
+
+    private PokemonEntity entity;
+    private Component name;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DexFixture dex = DexFixture.install(1_000);
+        Species species = dex.speciesWith(DiscoveryStatus.valueOf(status.toUpperCase(Locale.ROOT)));
+        entity = dex.entity(species, ownership.equals("wild"));
+        name = Component.literal(species.getName());
+    }
+
+    @Benchmark
+    public Component decorate() {
+        NametagDecorationCache.invalidate(entity);
+        return NametagDecorator.decorate(entity, name);
+    }
+
+    @Benchmark
+    public Component cacheHit() {
+        return NametagDecorator.decorate(entity, name);
+    }
+}
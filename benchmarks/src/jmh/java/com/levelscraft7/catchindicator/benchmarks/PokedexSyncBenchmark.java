@@ -0,0 +1,66 @@
+package com.levelscraft7.catchindicator.benchmarks;
+
+import com.cobblemon.mod.common.api.storage.player.client.ClientPokedexManager;
+import com.levelscraft7.catchindicator.client.PokedexRefreshManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a Pokédex sync by dex size: a full sync into an empty state (join), a full sync that changes
+ * nothing (resync), and an incremental sync carrying a single record (one catch). The part of a full sync
+ * that stays on the client thread, the copy handed to the ingestion worker, is measured on its own.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PokedexSyncBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    public int species;
+
+    private DexFixture dex;
+    private ClientPokedexManager payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dex = DexFixture.install(species);
+        payload = dex.payloadFor(species / 2);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Empty {
+        @Setup(Level.Invocation)
+        public void reset() {
+            PokedexRefreshManager.resetSession();
+        }
+    }
+
+    @Benchmark
+    public void fullSyncFromEmpty(Empty empty) {
+        PokedexRefreshManager.onPokedexSync(dex.manager);
+    }
+
+    @Benchmark
+    public void fullSyncUnchanged() {
+        PokedexRefreshManager.onPokedexSync(dex.manager);
+    }
+
+    @Benchmark
+    public Object fullSyncCapture() {
+        return PokedexRefreshManager.captureFull(dex.manager);
+    }
+
+    @Benchmark
+    public void incrementalSync() {
+        PokedexRefreshManager.onIncrementalSync(payload);
+    }
+}
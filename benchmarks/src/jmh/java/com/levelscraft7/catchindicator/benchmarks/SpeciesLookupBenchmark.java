@@ -0,0 +1,44 @@
+package com.levelscraft7.catchindicator.benchmarks;
+
+import com.levelscraft7.catchindicator.client.PokedexRefreshManager;
+import com.levelscraft7.catchindicator.core.DiscoveryStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the caught-state lookups the decorator makes, for the spellings species ids arrive under
+ * (showdown id, resource identifier, odd casing). Id normalization happens on first sight only.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SpeciesLookupBenchmark {
+
+    @Param({"bench4", "cobblemon:bench4", "Bench4", "bench3"})
+    public String spelling;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DexFixture dex = DexFixture.install(1_000);
+        PokedexRefreshManager.onPokedexSync(dex.manager);
+    }
+
+    @Benchmark
+    public boolean isSpeciesCaught() {
+        return PokedexRefreshManager.isSpeciesCaught(spelling);
+    }
+
+    @Benchmark
+    public DiscoveryStatus knownStatus() {
+        return PokedexRefreshManager.knownStatus(spelling);
+    }
+}
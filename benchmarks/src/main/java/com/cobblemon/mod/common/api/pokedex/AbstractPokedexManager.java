@@ -0,0 +1,21 @@
+package com.cobblemon.mod.common.api.pokedex;
+
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.Map;
+
+/**
+ * Stand-in for the base of Cobblemon's client and server Pokédex.
+ */
+public abstract class AbstractPokedexManager {
+
+    private final Map<ResourceLocation, SpeciesDexRecord> speciesRecords;
+
+    protected AbstractPokedexManager(Map<ResourceLocation, SpeciesDexRecord> speciesRecords) {
+        this.speciesRecords = speciesRecords;
+    }
+
+    public Map<ResourceLocation, SpeciesDexRecord> getSpeciesRecords() {
+        return speciesRecords;
+    }
+}
@@ -0,0 +1,17 @@
+package com.cobblemon.mod.common.api.pokedex;
+
+/**
+ * Stand-in for Cobblemon's {@code FormDexRecord}.
+ */
+public class FormDexRecord {
+
+    private final PokedexEntryProgress knowledge;
+
+    public FormDexRecord(PokedexEntryProgress knowledge) {
+        this.knowledge = knowledge;
+    }
+
+    public PokedexEntryProgress getKnowledge() {
+        return knowledge;
+    }
+}
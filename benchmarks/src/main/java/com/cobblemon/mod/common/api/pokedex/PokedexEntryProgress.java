@@ -0,0 +1,7 @@
+package com.cobblemon.mod.common.api.pokedex;
+
+public enum PokedexEntryProgress {
+    NONE,
+    ENCOUNTERED,
+    CAUGHT
+}
@@ -0,0 +1,32 @@
+package com.cobblemon.mod.common.api.pokedex;
+
+import com.levelscraft7.catchindicator.mixin.accessor.SpeciesDexRecordAccessor;
+
+import java.util.Map;
+
+/**
+ * Stand-in for Cobblemon's {@code SpeciesDexRecord}. The species level knowledge is kept at
+ * {@link PokedexEntryProgress#NONE} when only a form is known, so the form scan is exercised too.
+ * <p>
+ * Implements {@link SpeciesDexRecordAccessor} itself, as the real record does once the mixin is applied
+ * (nothing applies mixins headless), so the typed adapter reads the forms without falling back.
+ */
+public class SpeciesDexRecord implements SpeciesDexRecordAccessor {
+
+    private final PokedexEntryProgress knowledge;
+    private final Map<String, FormDexRecord> formRecords;
+
+    public SpeciesDexRecord(PokedexEntryProgress knowledge, Map<String, FormDexRecord> formRecords) {
+        this.knowledge = knowledge;
+        this.formRecords = formRecords;
+    }
+
+    public PokedexEntryProgress getKnowledge() {
+        return knowledge;
+    }
+
+    @Override
+    public Map<String, FormDexRecord> catchindicator$getFormRecords() {
+        return formRecords;
+    }
+}
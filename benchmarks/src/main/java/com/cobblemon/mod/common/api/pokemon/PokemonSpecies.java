@@ -0,0 +1,24 @@
+package com.cobblemon.mod.common.api.pokemon;
+
+import com.cobblemon.mod.common.pokemon.Species;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stand-in for Cobblemon's species registry.
+ */
+public class PokemonSpecies {
+
+    public static final PokemonSpecies INSTANCE = new PokemonSpecies();
+
+    private Collection<Species> species = List.of();
+
+    public Collection<Species> getSpecies() {
+        return species;
+    }
+
+    public void setSpecies(Collection<Species> species) {
+        this.species = species;
+    }
+}
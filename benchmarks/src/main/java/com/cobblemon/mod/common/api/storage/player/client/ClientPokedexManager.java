@@ -0,0 +1,33 @@
+package com.cobblemon.mod.common.api.storage.player.client;
+
+import com.cobblemon.mod.common.api.pokedex.AbstractPokedexManager;
+import com.cobblemon.mod.common.api.pokedex.PokedexEntryProgress;
+import com.cobblemon.mod.common.api.pokedex.SpeciesDexRecord;
+import com.cobblemon.mod.common.pokemon.Species;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Stand-in for Cobblemon's client Pokédex.
+ */
+public class ClientPokedexManager extends AbstractPokedexManager {
+
+    public ClientPokedexManager(Map<ResourceLocation, SpeciesDexRecord> speciesRecords) {
+        super(speciesRecords);
+    }
+
+    public Set<String> getCaughtForms(Species species) {
+        return forms(species, PokedexEntryProgress.CAUGHT);
+    }
+
+    public Set<String> getEncounteredForms(Species species) {
+        return forms(species, PokedexEntryProgress.ENCOUNTERED);
+    }
+
+    private Set<String> forms(Species species, PokedexEntryProgress progress) {
+        SpeciesDexRecord record = getSpeciesRecords().get(species.getResourceIdentifier());
+        return record != null && record.getKnowledge() == progress ? Set.of("normal") : Set.of();
+    }
+}
@@ -0,0 +1,21 @@
+package com.cobblemon.mod.common.client;
+
+import com.cobblemon.mod.common.api.storage.player.client.ClientPokedexManager;
+
+/**
+ * Stand-in for Cobblemon's client singleton.
+ */
+public class CobblemonClient {
+
+    public static final CobblemonClient INSTANCE = new CobblemonClient();
+
+    private ClientPokedexManager clientPokedexData;
+
+    public ClientPokedexManager getClientPokedexData() {
+        return clientPokedexData;
+    }
+
+    public void setClientPokedexData(ClientPokedexManager clientPokedexData) {
+        this.clientPokedexData = clientPokedexData;
+    }
+}
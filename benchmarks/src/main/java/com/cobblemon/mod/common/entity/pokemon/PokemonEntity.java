@@ -0,0 +1,30 @@
+package com.cobblemon.mod.common.entity.pokemon;
+
+import com.cobblemon.mod.common.pokemon.Pokemon;
+import com.levelscraft7.catchindicator.client.NametagDecorationCache;
+
+import java.util.UUID;
+
+/**
+ * Stand-in for Cobblemon's {@code PokemonEntity}. Not a Minecraft entity (those cannot be built without a
+ * client level), so it is a {@link NametagDecorationCache.HeadlessEntity}: decorated through the cache and
+ * filed in the tracked-Pokémon registry like a client-side Pokémon.
+ */
+public class PokemonEntity implements NametagDecorationCache.HeadlessEntity {
+
+    private final Pokemon pokemon;
+    private final UUID ownerUUID;
+
+    public PokemonEntity(Pokemon pokemon, UUID ownerUUID) {
+        this.pokemon = pokemon;
+        this.ownerUUID = ownerUUID;
+    }
+
+    public Pokemon getPokemon() {
+        return pokemon;
+    }
+
+    public UUID getOwnerUUID() {
+        return ownerUUID;
+    }
+}
@@ -0,0 +1,17 @@
+package com.cobblemon.mod.common.pokemon;
+
+/**
+ * Stand-in for Cobblemon's {@code FormData}: only the members CatchIndicator reads.
+ */
+public class FormData {
+
+    private final String name;
+
+    public FormData(String name) {
+        this.name = name;
+    }
+
+    public String formOnlyShowdownId() {
+        return name;
+    }
+}
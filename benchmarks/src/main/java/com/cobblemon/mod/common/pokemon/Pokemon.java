@@ -0,0 +1,27 @@
+package com.cobblemon.mod.common.pokemon;
+
+/**
+ * Stand-in for Cobblemon's {@code Pokemon}.
+ */
+public class Pokemon {
+
+    private final Species species;
+    private final boolean wild;
+
+    public Pokemon(Species species, boolean wild) {
+        this.species = species;
+        this.wild = wild;
+    }
+
+    public Species getSpecies() {
+        return species;
+    }
+
+    public FormData getForm() {
+        return species.getStandardForm();
+    }
+
+    public boolean isWild() {
+        return wild;
+    }
+}
@@ -0,0 +1,34 @@
+package com.cobblemon.mod.common.pokemon;
+
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Stand-in for Cobblemon's {@code Species}: only the members CatchIndicator reads.
+ */
+public class Species {
+
+    private final String name;
+    private final ResourceLocation resourceIdentifier;
+    private final FormData standardForm = new FormData("normal");
+
+    public Species(String name) {
+        this.name = name;
+        this.resourceIdentifier = ResourceLocation.fromNamespaceAndPath("cobblemon", name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String showdownId() {
+        return name;
+    }
+
+    public ResourceLocation getResourceIdentifier() {
+        return resourceIdentifier;
+    }
+
+    public FormData getStandardForm() {
+        return standardForm;
+    }
+}
@@ -0,0 +1,126 @@
+package com.levelscraft7.catchindicator.benchmarks;
+
+import com.cobblemon.mod.common.api.pokedex.FormDexRecord;
+import com.cobblemon.mod.common.api.pokedex.PokedexEntryProgress;
+import com.cobblemon.mod.common.api.pokedex.SpeciesDexRecord;
+import com.cobblemon.mod.common.api.pokemon.PokemonSpecies;
+import com.cobblemon.mod.common.api.storage.player.client.ClientPokedexManager;
+import com.cobblemon.mod.common.client.CobblemonClient;
+import com.cobblemon.mod.common.entity.pokemon.PokemonEntity;
+import com.cobblemon.mod.common.pokemon.Pokemon;
+import com.cobblemon.mod.common.pokemon.Species;
+import com.levelscraft7.catchindicator.client.NametagDecorationCache;
+import com.levelscraft7.catchindicator.client.PokedexRefreshManager;
+import com.levelscraft7.catchindicator.client.TrackedPokemonRegistry;
+import com.levelscraft7.catchindicator.core.DiscoveryStatus;
+import com.levelscraft7.catchindicator.core.SpeciesAliases;
+import com.levelscraft7.catchindicator.core.adapter.CobblemonAdapters;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A synthetic Pokédex of {@code n} species, installed into the Cobblemon stand-ins.
+ * <p>
+ * Species {@code i} is, by {@code i % 4}: caught, caught through a form record only, seen, or unknown
+ * (no record at all). Every Pokémon is in its species' standard form.
+ */
+public final class DexFixture {
+
+    private static final UUID OWNER = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    public final List<Species> species;
+    public final ClientPokedexManager manager;
+
+    private DexFixture(List<Species> species, ClientPokedexManager manager) {
+        this.species = species;
+        this.manager = manager;
+    }
+
+    /**
+     * Builds the fixture, makes it the live registry and client Pokédex, and resets CatchIndicator's state.
+     * Selects the adapter the way client start-up does, so the typed one runs, as in game.
+     *
+     * @throws IllegalStateException when the stand-ins no longer link against the typed adapter
+     */
+    public static DexFixture install(int n) {
+        if (!"typed".equals(CobblemonAdapters.select("", true).name())) {
+            throw new IllegalStateException("the Cobblemon stand-ins do not link against the typed adapter");
+        }
+
+        List<Species> species = new ArrayList<>(n);
+        Map<ResourceLocation, SpeciesDexRecord> records = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            Species s = new Species("bench" + i);
+            species.add(s);
+            SpeciesDexRecord record = record(i % 4);
+            if (record != null) records.put(s.getResourceIdentifier(), record);
+        }
+
+        ClientPokedexManager manager = new ClientPokedexManager(records);
+        PokemonSpecies.INSTANCE.setSpecies(species);
+        CobblemonClient.INSTANCE.setClientPokedexData(manager);
+        SpeciesAliases.invalidate();
+        SpeciesAliases.rebuildIfStale(CobblemonAdapters.get());
+        PokedexRefreshManager.resetSession();
+        NametagDecorationCache.clear();
+        TrackedPokemonRegistry.clear();
+        return new DexFixture(species, manager);
+    }
+
+    private static SpeciesDexRecord record(int kind) {
+        return switch (kind) {
+            case 0 -> new SpeciesDexRecord(PokedexEntryProgress.CAUGHT,
+                    Map.of("normal", new FormDexRecord(PokedexEntryProgress.CAUGHT)));
+            case 1 -> new SpeciesDexRecord(PokedexEntryProgress.NONE,
+                    Map.of("normal", new FormDexRecord(PokedexEntryProgress.ENCOUNTERED),
+                            "alolan", new FormDexRecord(PokedexEntryProgress.CAUGHT)));
+            case 2 -> new SpeciesDexRecord(PokedexEntryProgress.ENCOUNTERED,
+                    Map.of("normal", new FormDexRecord(PokedexEntryProgress.ENCOUNTERED)));
+            default -> null;
+        };
+    }
+
+    /**
+     * @return a species whose live Pokédex status is {@code status}
+     */
+    public Species speciesWith(DiscoveryStatus status) {
+        int kind = switch (status) {
+            case CAUGHT -> 0;
+            case SEEN -> 2;
+            case UNKNOWN -> 3;
+        };
+        return species.get(kind);
+    }
+
+    public PokemonEntity entity(Species species, boolean wild) {
+        return new PokemonEntity(new Pokemon(species, wild), wild ? null : OWNER);
+    }
+
+    /**
+     * Marks species {@code i} caught in the live Pokédex, like Cobblemon merging an incremental update.
+     * Call it from the thread that submits syncs, as Cobblemon does: the ingestion copies records there.
+     *
+     * @return the matching incremental payload
+     */
+    public ClientPokedexManager catchSpecies(int i) {
+        ResourceLocation id = species.get(i).getResourceIdentifier();
+        manager.getSpeciesRecords().put(id, record(0));
+        return payloadFor(i);
+    }
+
+    /**
+     * @return an incremental payload carrying only the record of species {@code i}
+     */
+    public ClientPokedexManager payloadFor(int i) {
+        ResourceLocation id = species.get(i).getResourceIdentifier();
+        Map<ResourceLocation, SpeciesDexRecord> changed = new HashMap<>();
+        SpeciesDexRecord record = manager.getSpeciesRecords().get(id);
+        if (record != null) changed.put(id, record);
+        return new ClientPokedexManager(changed);
+    }
+}
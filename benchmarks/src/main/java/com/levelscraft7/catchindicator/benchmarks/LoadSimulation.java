@@ -0,0 +1,250 @@
+package com.levelscraft7.catchindicator.benchmarks;
+
+import com.cobblemon.mod.common.entity.pokemon.PokemonEntity;
+import com.cobblemon.mod.common.pokemon.Species;
+import com.levelscraft7.catchindicator.client.NametagDecorator;
+import com.levelscraft7.catchindicator.client.NametagRefreshScheduler;
+import com.levelscraft7.catchindicator.client.PokedexIngestion;
+import com.levelscraft7.catchindicator.client.PokedexRefreshManager;
+import com.levelscraft7.catchindicator.client.TrackedPokemonRegistry;
+import com.levelscraft7.catchindicator.client.diagnostics.CatchIndicatorStats;
+import com.levelscraft7.catchindicator.core.DiscoveryStatus;
+import com.sun.management.ThreadMXBean;
+import net.minecraft.network.chat.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Headless load simulation: a world of Pokémon stand-ins whose nametags are decorated every simulated
+ * frame while Pokédex sync bursts arrive, as on a busy server.
+ * <p>
+ * A frame is what the mod adds to the client thread: one {@link NametagRefreshScheduler#tick()} plus one
+ * {@link NametagDecorator#decorate} per visible Pokémon, the call {@code EntityRendererNameTagMixin} makes.
+ * The stand-ins take the path a client-side Pokémon takes in game: typed adapter, decoration cache,
+ * tracked-Pokémon registry, and in-place refresh of the species a burst changed.
+ * Sync bursts go through {@link PokedexIngestion}, the entry point of the Cobblemon hooks
+ * ({@code runIncremental} / {@code runAction} and {@code setClientPokedexData}): the record copies count
+ * towards the frame they arrive in, and the real ingestion worker applies them while frames run.
+ * <p>
+ * Reports what the measured frames did ({@link CatchIndicatorStats} counts: decorations resolved, entities
+ * refreshed, live lookups, reflection fallbacks) and p50/p99 of per-frame allocation and time, and exits
+ * non-zero when one of them exceeds the committed baseline ({@code loadsim-baseline.properties}) by more than
+ * the ratio set in {@code loadsim.properties}, when a stand-in was not tracked, or when a burst never reached
+ * the snapshot. Counts and allocation are the gate; time varies too much between machines for more than a
+ * loose backstop. With {@code --write-baseline} the run records its numbers as the new baseline instead of
+ * gating on the old one.
+ * <pre>
+ *   ./gradlew :benchmarks:loadSim           (also part of check)
+ *   ./gradlew :benchmarks:loadSimBaseline
+ * </pre>
+ */
+public final class LoadSimulation {
+
+    private static final long SEED = 0x5EED_CA7CL;
+    private static final long SETTLE_TIMEOUT_NANOS = 10_000_000_000L;
+
+    private LoadSimulation() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 2) {
+            System.err.println("usage: LoadSimulation <loadsim.properties> <baseline.properties> [report file] [--write-baseline]");
+            System.exit(2);
+        }
+        Properties config = load(Path.of(args[0]));
+        Path baselineFile = Path.of(args[1]);
+        boolean writeBaseline = Arrays.asList(args).contains("--write-baseline");
+        Properties baseline = writeBaseline ? new Properties() : load(baselineFile);
+
+        int speciesCount = intProperty(config, "species");
+        int entityCount = intProperty(config, "entities");
+        int warmupFrames = intProperty(config, "warmupFrames");
+        int frames = intProperty(config, "frames");
+        int burstEvery = intProperty(config, "burstEvery");
+        int burstSize = intProperty(config, "burstSize");
+
+        DexFixture dex = DexFixture.install(speciesCount);
+        PokedexIngestion.submitFull(dex.manager);
+        if (!awaitSettled(PokedexRefreshManager::hasFullTable)) {
+            System.err.println("FAILED: the initial full sync never completed");
+            System.exit(1);
+        }
+
+        Random random = new Random(SEED);
+        List<PokemonEntity> entities = new ArrayList<>(entityCount);
+        List<Component> names = new ArrayList<>(entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            Species species = dex.species.get(random.nextInt(speciesCount));
+            // Mostly wild, like an open world; owned ones mark their species caught
+            entities.add(dex.entity(species, random.nextInt(8) != 0));
+            names.add(Component.literal(species.getName()));
+        }
+
+        // Seen species (i % 4 == 2) get caught during the run, in bursts
+        List<Integer> catchable = new ArrayList<>();
+        for (int i = 2; i < speciesCount; i += 4) catchable.add(i);
+        Collections.shuffle(catchable, random);
+        List<Integer> caught = new ArrayList<>();
+
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] nanos = new long[frames];
+        long[] bytes = new long[frames];
+        int decorated = 0;
+        for (int frame = -warmupFrames; frame < frames; frame++) {
+            // Counts cover the measured frames only; warm-up decorates every stand-in once
+            if (frame == 0) CatchIndicatorStats.reset();
+            long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            // The hooks copy the changed records on the client thread, so submitting is part of the frame
+            if (frame >= 0 && frame % burstEvery == 0) {
+                for (int b = 0; b < burstSize && !catchable.isEmpty(); b++) {
+                    int species = catchable.remove(catchable.size() - 1);
+                    caught.add(species);
+                    PokedexIngestion.submitIncremental(dex.catchSpecies(species));
+                }
+            }
+            NametagRefreshScheduler.tick();
+            for (int i = 0; i < entityCount; i++) {
+                Component original = names.get(i);
+                if (NametagDecorator.decorate(entities.get(i), original) != original) decorated++;
+            }
+            long elapsed = System.nanoTime() - start;
+            long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+            if (frame >= 0) {
+                nanos[frame] = elapsed;
+                bytes[frame] = allocated;
+            }
+        }
+
+        long cacheHits = CatchIndicatorStats.cacheHitCount();
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put("count.decorations", CatchIndicatorStats.decorationCount());
+        counts.put("count.entities.refreshed", CatchIndicatorStats.entitiesRefreshedCount());
+        counts.put("count.live.lookups", CatchIndicatorStats.liveDexLookupCount());
+        counts.put("count.reflection.fallbacks", CatchIndicatorStats.reflectionFallbacks());
+        int tracked = TrackedPokemonRegistry.size();
+
+        boolean applied = awaitSettled(() -> caught.stream().allMatch(
+                id -> PokedexRefreshManager.knownStatus(dex.species.get(id).getResourceIdentifier().toString()) == DiscoveryStatus.CAUGHT));
+
+        Arrays.sort(nanos);
+        Arrays.sort(bytes);
+        long p50Micros = percentile(nanos, 0.50) / 1_000;
+        long p99Micros = percentile(nanos, 0.99) / 1_000;
+        long p50Kib = percentile(bytes, 0.50) / 1_024;
+        long p99Kib = percentile(bytes, 0.99) / 1_024;
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format(Locale.ROOT, "load simulation: %d species, %d entities, %d frames, %d species caught in bursts of %d",
+                speciesCount, entityCount, frames, caught.size(), burstSize));
+        report.add(String.format(Locale.ROOT, "decorated names: %d, cache hits: %d, tracked: %d",
+                decorated, cacheHits, tracked));
+        List<String> failures = new ArrayList<>();
+        Map<String, Long> measured = new LinkedHashMap<>(counts);
+        measured.put("frame.alloc.p50.kib", p50Kib);
+        measured.put("frame.alloc.p99.kib", p99Kib);
+        measured.put("frame.p50.micros", p50Micros);
+        measured.put("frame.p99.micros", p99Micros);
+        double countRatio = doubleProperty(config, "gate.count.ratio");
+        double allocRatio = doubleProperty(config, "gate.alloc.ratio");
+        double timeRatio = doubleProperty(config, "gate.time.ratio");
+        for (Map.Entry<String, Long> metric : measured.entrySet()) {
+            String key = metric.getKey();
+            if (writeBaseline) {
+                report.add(String.format(Locale.ROOT, "%-26s %8d", key, metric.getValue()));
+            } else if (key.startsWith("count.")) {
+                gate(report, failures, key, metric.getValue(), intProperty(baseline, key), countRatio, 0);
+            } else {
+                gate(report, failures, key, metric.getValue(), intProperty(baseline, key),
+                        key.startsWith("frame.alloc.") ? allocRatio : timeRatio, 1);
+            }
+        }
+        if (tracked != entityCount) failures.add("only " + tracked + " of " + entityCount + " Pokémon were tracked");
+        if (!applied) failures.add("sync bursts did not all reach the snapshot");
+
+        report.forEach(System.out::println);
+        if (args.length > 2 && !args[2].startsWith("--")) {
+            Path out = Path.of(args[2]);
+            if (out.getParent() != null) Files.createDirectories(out.getParent());
+            Files.write(out, report, StandardCharsets.UTF_8);
+        }
+        if (writeBaseline && failures.isEmpty()) {
+            writeBaseline(baselineFile, measured, report.get(0));
+            System.out.println("baseline written to " + baselineFile);
+        }
+        if (!failures.isEmpty()) {
+            failures.forEach(f -> System.err.println("FAILED: " + f));
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    /**
+     * @param floor smallest baseline the ratio applies to: 1 leaves a zero baseline (nothing allocated) one
+     *              unit of slack, 0 holds a count that was zero at zero
+     */
+    private static void gate(List<String> report, List<String> failures, String key, long value, long baseline,
+                             double ratio, long floor) {
+        long limit = (long) Math.ceil(Math.max(floor, baseline) * ratio);
+        report.add(String.format(Locale.ROOT, "%-26s %8d  (baseline %d, limit %d)", key, value, baseline, limit));
+        if (value > limit) failures.add(key + " = " + value + ", limit " + limit + " (" + ratio + "x baseline " + baseline + ")");
+    }
+
+    private static void writeBaseline(Path file, Map<String, Long> measured, String scenario) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("# Written by `./gradlew :benchmarks:loadSimBaseline`; loadSim gates on ratios to these numbers.");
+        lines.add("# " + scenario);
+        measured.forEach((key, value) -> lines.add(key + "=" + value));
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+
+    private static Properties load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+
+    private static long percentile(long[] sorted, double q) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(q * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static int intProperty(Properties config, String key) {
+        String raw = config.getProperty(key);
+        if (raw == null) throw new IllegalArgumentException("missing " + key + " in load simulation config");
+        return Integer.parseInt(raw.trim());
+    }
+
+    private static double doubleProperty(Properties config, String key) {
+        String raw = config.getProperty(key);
+        if (raw == null) throw new IllegalArgumentException("missing " + key + " in load simulation config");
+        return Double.parseDouble(raw.trim());
+    }
+
+    private static boolean awaitSettled(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + SETTLE_TIMEOUT_NANOS;
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) return false;
+            Thread.sleep(5);
+        }
+        return true;
+    }
+}
@@ -1,5 +1,7 @@
 package com.levelscraft7.catchindicator;
 
+import com.levelscraft7.catchindicator.core.adapter.CobblemonAdapters;
+import com.levelscraft7.catchindicator.server.DexCompanion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,6 +17,8 @@ public final class CatchIndicator {
 
     public static void init() {
         LOGGER.info("[{}] Common init OK", MOD_ID);
-        // Register common content here (items, blocks, networking, etc.).
+        // Both sides read Cobblemon: the client its Pokédex and entities, a server the dex companion's records
+        CobblemonAdapters.select();
+        DexCompanion.init();
     }
 }
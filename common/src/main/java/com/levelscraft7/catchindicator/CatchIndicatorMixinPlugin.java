@@ -0,0 +1,67 @@
+package com.levelscraft7.catchindicator;
+
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldNode;
+import org.spongepowered.asm.mixin.extensibility.IMixinConfigPlugin;
+import org.spongepowered.asm.mixin.extensibility.IMixinInfo;
+import org.spongepowered.asm.service.MixinService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Skips accessor mixins whose target member is missing from the installed Cobblemon, so a line that renamed
+ * a private field degrades to the reflective adapter instead of failing to launch.
+ */
+public final class CatchIndicatorMixinPlugin implements IMixinConfigPlugin {
+
+    // mixin simple name -> field that must exist on the target
+    private static final Map<String, String> REQUIRED_FIELDS = Map.of(
+            "SpeciesDexRecordAccessor", "formRecords"
+    );
+
+    @Override
+    public void onLoad(String mixinPackage) {
+    }
+
+    @Override
+    public String getRefMapperConfig() {
+        return null;
+    }
+
+    @Override
+    public boolean shouldApplyMixin(String targetClassName, String mixinClassName) {
+        String simpleName = mixinClassName.substring(mixinClassName.lastIndexOf('.') + 1);
+        String field = REQUIRED_FIELDS.get(simpleName);
+        if (field == null) return true;
+
+        try {
+            ClassNode node = MixinService.getService().getBytecodeProvider().getClassNode(targetClassName);
+            for (FieldNode f : node.fields) {
+                if (f.name.equals(field)) return true;
+            }
+            CatchIndicator.LOGGER.info("[{}] {} not found on {}, skipping {}", CatchIndicator.MOD_ID, field, targetClassName, simpleName);
+        } catch (Throwable t) {
+            CatchIndicator.LOGGER.info("[{}] cannot inspect {}, skipping {}", CatchIndicator.MOD_ID, targetClassName, simpleName);
+        }
+        return false;
+    }
+
+    @Override
+    public void acceptTargets(Set<String> myTargets, Set<String> otherTargets) {
+    }
+
+    @Override
+    public List<String> getMixins() {
+        return null;
+    }
+
+    @Override
+    public void preApply(String targetClassName, ClassNode targetClass, String mixinClassName, IMixinInfo mixinInfo) {
+    }
+
+    @Override
+    public void postApply(String targetClassName, ClassNode targetClass, String mixinClassName, IMixinInfo mixinInfo) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.levelscraft7.catchindicator.api;
+
+import com.levelscraft7.catchindicator.client.NametagDecorator;
+import com.levelscraft7.catchindicator.client.PokedexRefreshManager;
+import com.levelscraft7.catchindicator.client.StatusListeners;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.Entity;
+
+import java.util.List;
+
+/**
+ * Client-side entry point for other mods (minimaps, HUDs, radars) that want CatchIndicator's view of the
+ * Pokédex instead of reading Cobblemon's themselves.
+ * <p>
+ * Species are accepted in any spelling CatchIndicator resolves ({@code bulbasaur}, {@code cobblemon:bulbasaur});
+ * results use the canonical {@code namespace:path} form. Lookups read the current table without locking:
+ * past the first lookup of a spelling, a hash probe and a bit test. Lookups never add to the species table: an
+ * id CatchIndicator has not seen in the Pokédex or the world answers {@link CatchStatus#UNKNOWN}. Safe from any
+ * thread and cheap enough to call per frame.
+ * Until a full sync has arrived ({@link DexView#isComplete()}), UNKNOWN only means "not reported yet".
+ */
+public final class CatchIndicatorApi {
+
+    private CatchIndicatorApi() {
+    }
+
+    public static CatchStatus statusOf(String species) {
+        return CatchStatus.of(PokedexRefreshManager.knownStatus(species));
+    }
+
+    /**
+     * @param form form-only showdown id ({@code alola}); {@code null} or blank asks about the species
+     * @return the form's own status once the Pokédex reported on it, otherwise the species'
+     */
+    public static CatchStatus statusOf(String species, String form) {
+        return CatchStatus.of(PokedexRefreshManager.knownStatus(species, form));
+    }
+
+    /**
+     * @return form-only showdown ids of the known forms of a species that are not caught yet
+     */
+    public static List<String> missingForms(String species) {
+        return PokedexRefreshManager.missingForms(species);
+    }
+
+    /**
+     * Bumped whenever the table changes; compare with a stored value to skip work when nothing changed.
+     */
+    public static long epoch() {
+        return PokedexRefreshManager.epoch();
+    }
+
+    /**
+     * @return the current table as one consistent, immutable view
+     */
+    public static DexView snapshot() {
+        return new DexView(PokedexRefreshManager.snapshot());
+    }
+
+    /**
+     * @return the entity's display name with CatchIndicator's decoration, as on its nametag
+     */
+    public static Component decoratedName(Entity entity) {
+        return NametagDecorator.decoratedName(entity);
+    }
+
+    /**
+     * Registers a listener for batched status changes, delivered on the client thread after each sync
+     * (several close syncs are coalesced into one call).
+     */
+    public static void addListener(StatusListener listener) {
+        StatusListeners.add(listener);
+    }
+
+    public static void removeListener(StatusListener listener) {
+        StatusListeners.remove(listener);
+    }
+}
@@ -0,0 +1,24 @@
+package com.levelscraft7.catchindicator.api;
+
+import com.levelscraft7.catchindicator.core.DiscoveryStatus;
+
+/**
+ * What CatchIndicator knows about a species or form, as reported to other mods.
+ */
+public enum CatchStatus {
+    CAUGHT,
+    SEEN,
+    /**
+     * Not in the Pokédex, or a species CatchIndicator has never heard of. Until {@link DexView#isComplete()},
+     * also "not reported yet".
+     */
+    UNKNOWN;
+
+    static CatchStatus of(DiscoveryStatus status) {
+        return switch (status) {
+            case CAUGHT -> CAUGHT;
+            case SEEN -> SEEN;
+            case UNKNOWN -> UNKNOWN;
+        };
+    }
+}
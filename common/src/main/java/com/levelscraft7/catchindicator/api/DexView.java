@@ -0,0 +1,70 @@
+package com.levelscraft7.catchindicator.api;
+
+import com.levelscraft7.catchindicator.client.DexSnapshot;
+import com.levelscraft7.catchindicator.client.SpeciesIndex;
+import com.levelscraft7.catchindicator.core.DiscoveryStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The whole caught/seen table at one epoch. Immutable: later syncs publish a new view, this one keeps
+ * answering as of {@link #epoch()}, species names included: ids resolve through the indices of the session
+ * the view was taken in.
+ */
+public final class DexView {
+
+    private final DexSnapshot snapshot;
+
+    DexView(DexSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    public long epoch() {
+        return snapshot.epoch();
+    }
+
+    /**
+     * @return true once the table was built from a full Pokédex sync; before that UNKNOWN only means
+     * "not reported yet"
+     */
+    public boolean isComplete() {
+        return snapshot.isComplete();
+    }
+
+    public CatchStatus statusOf(String species) {
+        if (species == null || species.isBlank()) return CatchStatus.UNKNOWN;
+        int id = snapshot.species().lookup(species);
+        return id == SpeciesIndex.NO_ID ? CatchStatus.UNKNOWN : CatchStatus.of(snapshot.status(id));
+    }
+
+    public int caughtCount() {
+        return snapshot.caughtCount();
+    }
+
+    /**
+     * @return canonical ids of the caught species
+     */
+    public List<String> caught() {
+        return collect(DiscoveryStatus.CAUGHT);
+    }
+
+    /**
+     * @return canonical ids of the species seen but not caught
+     */
+    public List<String> seen() {
+        return collect(DiscoveryStatus.SEEN);
+    }
+
+    private List<String> collect(DiscoveryStatus status) {
+        List<String> out = new ArrayList<>();
+        SpeciesIndex species = snapshot.species();
+        int count = species.size();
+        for (int id = 0; id < count; id++) {
+            if (snapshot.status(id) != status) continue;
+            String key = species.canonical(id);
+            if (key != null) out.add(key);
+        }
+        return out;
+    }
+}
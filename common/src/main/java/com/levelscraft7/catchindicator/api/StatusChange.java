@@ -0,0 +1,13 @@
+package com.levelscraft7.catchindicator.api;
+
+import java.util.List;
+
+/**
+ * One batch of status changes.
+ *
+ * @param epoch   epoch of the table the change was read from, see {@link CatchIndicatorApi#epoch()}
+ * @param species canonical ids ({@code cobblemon:bulbasaur}) of the species whose status, or the status of
+ *                one of their forms, changed; unmodifiable
+ */
+public record StatusChange(long epoch, List<String> species) {
+}
@@ -0,0 +1,13 @@
+package com.levelscraft7.catchindicator.api;
+
+/**
+ * Told when species change status, see {@link CatchIndicatorApi#addListener}.
+ */
+@FunctionalInterface
+public interface StatusListener {
+
+    /**
+     * Client thread. Changes from several syncs may arrive in one call.
+     */
+    void onStatusChanged(StatusChange change);
+}
@@ -0,0 +1,32 @@
+package com.levelscraft7.catchindicator.client;
+
+import dev.architectury.event.events.client.ClientCommandRegistrationEvent;
+import dev.architectury.event.events.client.ClientGuiEvent;
+import dev.architectury.event.events.client.ClientPlayerEvent;
+import dev.architectury.event.events.client.ClientTickEvent;
+
+/**
+ * Common client entrypoint, called from each platform's client init.
+ */
+public final class CatchIndicatorClient {
+
+    private CatchIndicatorClient() {
+    }
+
+    public static void init() {
+        CatchIndicatorConfig.load();
+        ClientWarmup.start();
+        ServerDexReceiver.register();
+
+        ClientPlayerEvent.CLIENT_PLAYER_JOIN.register(player -> ClientSession.onJoin());
+        ClientPlayerEvent.CLIENT_PLAYER_QUIT.register(player -> ClientSession.onQuit());
+        ClientTickEvent.CLIENT_POST.register(mc -> {
+            ClientSession.tick();
+            NametagRefreshScheduler.tick();
+            FrameBudgetGovernor.tick();
+            UncaughtNearbyHud.tick();
+        });
+        ClientGuiEvent.RENDER_HUD.register((graphics, deltaTracker) -> UncaughtNearbyHud.render(graphics));
+        ClientCommandRegistrationEvent.EVENT.register((dispatcher, context) -> CatchIndicatorCommands.register(dispatcher));
+    }
+}
@@ -0,0 +1,57 @@
+package com.levelscraft7.catchindicator.client;
+
+import com.levelscraft7.catchindicator.client.diagnostics.CatchIndicatorStats;
+import com.levelscraft7.catchindicator.core.adapter.CobblemonAdapters;
+import com.mojang.brigadier.CommandDispatcher;
+import dev.architectury.event.events.client.ClientCommandRegistrationEvent.ClientCommandSourceStack;
+import dev.architectury.event.events.client.ClientCommandRegistrationEvent;
+import net.minecraft.network.chat.Component;
+
+import java.util.Locale;
+
+/**
+ * Client-side {@code /catchindicator} command.
+ * <ul>
+ *     <li>{@code stats}: cache hit rates and counters</li>
+ *     <li>{@code stats reset}: zeroes the counters</li>
+ * </ul>
+ */
+public final class CatchIndicatorCommands {
+
+    private CatchIndicatorCommands() {
+    }
+
+    public static void register(CommandDispatcher<ClientCommandSourceStack> dispatcher) {
+        dispatcher.register(ClientCommandRegistrationEvent.literal("catchindicator")
+                .then(ClientCommandRegistrationEvent.literal("stats")
+                        .executes(ctx -> stats(ctx.getSource()))
+                        .then(ClientCommandRegistrationEvent.literal("reset")
+                                .executes(ctx -> reset(ctx.getSource())))));
+    }
+
+    private static int stats(ClientCommandSourceStack source) {
+        DexSnapshot snapshot = PokedexRefreshManager.snapshot();
+        send(source, String.format(Locale.ROOT, "CatchIndicator (%s adapter), epoch %d, source: %s",
+                CobblemonAdapters.get().name(), snapshot.epoch(),
+                PokedexRefreshManager.isServerAuthoritative() ? "server companion" : "client Pokédex"));
+        send(source, "capabilities: " + CobblemonAdapters.capabilities().summary());
+        send(source, String.format(Locale.ROOT, "species: %d indexed (%d forms), %d caught, %d seen; %d Pokémon tracked; %d sessions ended",
+                PokedexRefreshManager.speciesCount(), PokedexRefreshManager.formCount(), snapshot.caughtCount(),
+                snapshot.seenCount(), TrackedPokemonRegistry.size(), PokedexRefreshManager.sessionCount()));
+        send(source, FrameBudgetGovernor.describe());
+        for (String line : CatchIndicatorStats.report()) {
+            send(source, line);
+        }
+        return 1;
+    }
+
+    private static int reset(ClientCommandSourceStack source) {
+        CatchIndicatorStats.reset();
+        send(source, "CatchIndicator counters reset");
+        return 1;
+    }
+
+    private static void send(ClientCommandSourceStack source, String line) {
+        source.arch$sendSuccess(() -> Component.literal(line), false);
+    }
+}
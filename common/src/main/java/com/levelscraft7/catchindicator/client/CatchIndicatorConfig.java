@@ -0,0 +1,200 @@
+package com.levelscraft7.catchindicator.client;
+
+import dev.architectury.platform.Platform;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Client options, read from {@code config/catchindicator.properties}.
+ * <p>
+ * Missing or invalid entries fall back to their defaults, and the file is rewritten with every known key
+ * so new options show up after an update. Values are clamped to sane ranges.
+ */
+public final class CatchIndicatorConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("catchindicator");
+    private static final String FILE_NAME = "catchindicator.properties";
+
+    private static volatile int refreshCoalesceTicks = 2;
+    private static volatile int refreshBudgetMicros = 500;
+    private static volatile boolean warmUp = true;
+    private static volatile boolean governorEnabled = true;
+    private static volatile FrameBudgetGovernor.Tier governorTier;
+    private static volatile int governorTargetFps = 60;
+    private static volatile int governorBudgetMicros = 1000;
+    private static volatile int governorNearbyRadius = 24;
+    private static volatile boolean batchedIcons = true;
+    private static volatile boolean hudEnabled = true;
+    private static volatile int hudRadius = 48;
+    private static volatile int hudEntries = 5;
+    private static volatile int hudRefreshTicks = 10;
+
+    private CatchIndicatorConfig() {
+    }
+
+    /**
+     * Client ticks to wait after the first Pokédex change before refreshing nametags, so a burst of syncs
+     * costs one refresh.
+     */
+    public static int refreshCoalesceTicks() {
+        return refreshCoalesceTicks;
+    }
+
+    /**
+     * Time per client tick the nametag refresh may spend; the rest of the backlog waits for the next tick.
+     */
+    public static int refreshBudgetMicros() {
+        return refreshBudgetMicros;
+    }
+
+    /**
+     * Exercise the decoration path in the background at client init, see {@link ClientWarmup}.
+     */
+    public static boolean warmUp() {
+        return warmUp;
+    }
+
+    /**
+     * Let {@link FrameBudgetGovernor} scale decoration down on slow frames.
+     */
+    public static boolean governorEnabled() {
+        return governorEnabled;
+    }
+
+    /**
+     * Tier pinned by {@code governor.tier}, or {@code null} for {@code auto}.
+     */
+    public static FrameBudgetGovernor.Tier governorTier() {
+        return governorTier;
+    }
+
+    /**
+     * Frame rate under which the governor considers frames slow.
+     */
+    public static int governorTargetFps() {
+        return governorTargetFps;
+    }
+
+    /**
+     * Mod cost per frame the governor tolerates on slow frames.
+     */
+    public static int governorBudgetMicros() {
+        return governorBudgetMicros;
+    }
+
+    /**
+     * Blocks around the camera still decorated in the {@code NEARBY_ONLY} tier.
+     */
+    public static int governorNearbyRadius() {
+        return governorNearbyRadius;
+    }
+
+    /**
+     * Draw indicator icons as batched quads next to the nametag, see {@code IndicatorRenderer}. Off, the icon
+     * is a font glyph composed into the name, for shader packs or renderers that do not get along with the batch.
+     */
+    public static boolean batchedIcons() {
+        return batchedIcons;
+    }
+
+    /**
+     * Show the nearest uncaught species in a corner of the screen, see {@link UncaughtNearbyHud}.
+     */
+    public static boolean hudEnabled() {
+        return hudEnabled;
+    }
+
+    /**
+     * Blocks around the player the HUD looks for uncaught Pokémon in.
+     */
+    public static int hudRadius() {
+        return hudRadius;
+    }
+
+    public static int hudEntries() {
+        return hudEntries;
+    }
+
+    /**
+     * Client ticks between two HUD queries.
+     */
+    public static int hudRefreshTicks() {
+        return hudRefreshTicks;
+    }
+
+    public static void load() {
+        Path file = Platform.getConfigFolder().resolve(FILE_NAME);
+        Properties props = new Properties();
+        if (Files.isRegularFile(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                props.load(reader);
+            } catch (IOException | IllegalArgumentException e) {
+                LOGGER.warn("could not read {}, using defaults", file, e);
+            }
+        }
+
+        int before = props.size();
+        refreshCoalesceTicks = intOption(props, "refresh.coalesceTicks", 2, 0, 100);
+        refreshBudgetMicros = intOption(props, "refresh.budgetMicros", 500, 50, 50_000);
+        warmUp = booleanOption(props, "warmup.enabled", true);
+        governorEnabled = booleanOption(props, "governor.enabled", true);
+        governorTier = FrameBudgetGovernor.Tier.fromConfig(stringOption(props, "governor.tier", "auto"));
+        governorTargetFps = intOption(props, "governor.targetFps", 60, 10, 360);
+        governorBudgetMicros = intOption(props, "governor.budgetMicros", 1000, 100, 50_000);
+        governorNearbyRadius = intOption(props, "governor.nearbyRadius", 24, 4, 128);
+        batchedIcons = booleanOption(props, "render.batchedIcons", true);
+        hudEnabled = booleanOption(props, "hud.enabled", true);
+        hudRadius = intOption(props, "hud.radius", 48, 8, 128);
+        hudEntries = intOption(props, "hud.entries", 5, 1, 10);
+        hudRefreshTicks = intOption(props, "hud.refreshTicks", 10, 1, 100);
+
+        if (props.size() != before || !Files.isRegularFile(file)) {
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                props.store(writer, "CatchIndicator client options");
+            } catch (IOException e) {
+                LOGGER.warn("could not write {}", file, e);
+            }
+        }
+    }
+
+    private static String stringOption(Properties props, String key, String def) {
+        String raw = props.getProperty(key);
+        if (raw == null) {
+            props.setProperty(key, def);
+            return def;
+        }
+        return raw.trim();
+    }
+
+    private static boolean booleanOption(Properties props, String key, boolean def) {
+        String raw = props.getProperty(key);
+        if (raw == null) {
+            props.setProperty(key, Boolean.toString(def));
+            return def;
+        }
+        return Boolean.parseBoolean(raw.trim());
+    }
+
+    private static int intOption(Properties props, String key, int def, int min, int max) {
+        String raw = props.getProperty(key);
+        int value = def;
+        if (raw != null) {
+            try {
+                value = Math.max(min, Math.min(max, Integer.parseInt(raw.trim())));
+            } catch (NumberFormatException e) {
+                LOGGER.warn("invalid value '{}' for {}, using {}", raw, key, def);
+            }
+        } else {
+            props.setProperty(key, Integer.toString(def));
+        }
+        return value;
+    }
+}
@@ -0,0 +1,83 @@
+package com.levelscraft7.catchindicator.client;
+
+import com.levelscraft7.catchindicator.client.render.IndicatorRenderer;
+import com.levelscraft7.catchindicator.core.SpeciesAliases;
+import com.levelscraft7.catchindicator.core.adapter.CobblemonAdapters;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Lifecycle of the client's per-server state.
+ * <ul>
+ *     <li>Join: a session starts, seeded from this server's persisted snapshot.</li>
+ *     <li>Disconnect: the snapshot is saved, the species and form indices are swapped for empty ones
+ *     ({@link PokedexRefreshManager#endSession()}) and every per-entity cache is evicted.</li>
+ *     <li>Join without a disconnect (a proxy moving the player to another backend): the previous session is
+ *     ended first, as on a disconnect.</li>
+ *     <li>Level change (dimension change, respawn into another level): per-entity state of the old level is
+ *     evicted; the Pokédex state is kept.</li>
+ * </ul>
+ * Client thread only.
+ */
+public final class ClientSession {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("catchindicator");
+
+    private static boolean active;
+    private static ClientLevel level;
+
+    private ClientSession() {
+    }
+
+    public static void onJoin() {
+        if (active) {
+            LOGGER.debug("joined without a disconnect, ending the previous session");
+            end();
+        }
+        active = true;
+        SpeciesAliases.rebuildIfStale(CobblemonAdapters.get());
+        DexSnapshotStore.onJoin();
+        ServerDexReceiver.onJoin();
+    }
+
+    public static void onQuit() {
+        end();
+    }
+
+    /**
+     * Client thread, once per client tick: rebuilds the species alias table after a registry reload and
+     * notices level swaps, whichever path caused them.
+     */
+    public static void tick() {
+        // The alias table is built here, never from the threads that intern species
+        SpeciesAliases.rebuildIfStale(CobblemonAdapters.get());
+        ClientLevel current = Minecraft.getInstance().level;
+        if (current == level) return;
+        if (level != null) {
+            int dropped = TrackedPokemonRegistry.retainLevel(current);
+            evictCaches();
+            LOGGER.debug("level changed, {} tracked Pokémon dropped", dropped);
+        }
+        level = current;
+    }
+
+    private static void end() {
+        active = false;
+        level = null;
+        PokedexIngestion.discard();
+        ServerDexReceiver.reset();
+        DexSnapshotStore.onQuit();
+        TrackedPokemonRegistry.clear();
+        evictCaches();
+    }
+
+    private static void evictCaches() {
+        NametagDecorationCache.clear();
+        OwnershipCache.clear();
+        NametagRefreshScheduler.clear();
+        UncaughtNearbyHud.clear();
+        IndicatorRenderer.discard();
+    }
+}
@@ -0,0 +1,36 @@
+package com.levelscraft7.catchindicator.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads and exercises the decoration path on a background thread at client init, so the first nametags
+ * drawn in a world do not pay for class loading and interpreted code.
+ */
+public final class ClientWarmup {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("catchindicator");
+    private static final int ITERATIONS = 20_000;
+
+    private ClientWarmup() {
+    }
+
+    public static void start() {
+        if (!CatchIndicatorConfig.warmUp()) return;
+        Thread thread = new Thread(ClientWarmup::run, "CatchIndicator warm-up");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    private static void run() {
+        long start = System.nanoTime();
+        try {
+            NametagDecorator.warmUp(ITERATIONS);
+        } catch (RuntimeException | LinkageError e) {
+            LOGGER.debug("warm-up skipped", e);
+            return;
+        }
+        LOGGER.debug("warm-up done in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+}
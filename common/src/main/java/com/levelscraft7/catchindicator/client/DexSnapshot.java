@@ -0,0 +1,273 @@
+package com.levelscraft7.catchindicator.client;
+
+import com.levelscraft7.catchindicator.core.DiscoveryStatus;
+
+import java.util.BitSet;
+
+/**
+ * Immutable caught/seen state, indexed by {@link SpeciesIndex} id, with the same pair of sets per form,
+ * indexed by {@link FormIndex} id.
+ * <p>
+ * A snapshot is never modified after construction: writers derive a new one through {@link #toBuilder()}
+ * and publish it through a single volatile reference, so readers need no lock and can never observe a
+ * half-applied update. The epoch increases with every published change.
+ * <p>
+ * A {@linkplain #isComplete() complete} snapshot holds the full CAUGHT/SEEN/UNKNOWN table from a full
+ * Pokédex sync: UNKNOWN is then an answer, not a "don't know yet".
+ * <p>
+ * The session's {@link SpeciesIndex} and {@link FormIndex} travel with the bits they index: a reader that
+ * holds a snapshot resolves ids through {@link #species()} and {@link #forms()} and never mixes one session's
+ * ids with another's. The indices only grow within a session; ids handed out after this snapshot was built
+ * simply have no bits in it.
+ */
+public final class DexSnapshot {
+
+    private static final long[] NONE = new long[0];
+
+    private final long epoch;
+    private final int session;
+    private final SpeciesIndex species;
+    private final FormIndex forms;
+    private final long[] caught;
+    private final long[] seen;
+    private final long[] formCaught;
+    private final long[] formSeen;
+    private final boolean complete;
+
+    private DexSnapshot(long epoch, int session, SpeciesIndex species, FormIndex forms, long[] caught, long[] seen,
+                        long[] formCaught, long[] formSeen, boolean complete) {
+        this.epoch = epoch;
+        this.session = session;
+        this.species = species;
+        this.forms = forms;
+        this.caught = caught;
+        this.seen = seen;
+        this.formCaught = formCaught;
+        this.formSeen = formSeen;
+        this.complete = complete;
+    }
+
+    /**
+     * @return a first, empty snapshot with fresh indices
+     */
+    public static DexSnapshot empty() {
+        return new DexSnapshot(0L, 0, new SpeciesIndex(), new FormIndex(), NONE, NONE, NONE, NONE, false);
+    }
+
+    public long epoch() {
+        return epoch;
+    }
+
+    /**
+     * @return how many sessions ended before the one this snapshot belongs to
+     */
+    public int session() {
+        return session;
+    }
+
+    /**
+     * @return the species ids this snapshot is indexed by
+     */
+    public SpeciesIndex species() {
+        return species;
+    }
+
+    /**
+     * @return the form ids this snapshot is indexed by
+     */
+    public FormIndex forms() {
+        return forms;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public boolean isCaught(int id) {
+        return test(caught, id);
+    }
+
+    public boolean isSeen(int id) {
+        return test(seen, id);
+    }
+
+    public DiscoveryStatus status(int id) {
+        if (test(caught, id)) return DiscoveryStatus.CAUGHT;
+        if (test(seen, id)) return DiscoveryStatus.SEEN;
+        return DiscoveryStatus.UNKNOWN;
+    }
+
+    public boolean isFormCaught(int formId) {
+        return test(formCaught, formId);
+    }
+
+    public DiscoveryStatus formStatus(int formId) {
+        if (test(formCaught, formId)) return DiscoveryStatus.CAUGHT;
+        if (test(formSeen, formId)) return DiscoveryStatus.SEEN;
+        return DiscoveryStatus.UNKNOWN;
+    }
+
+    public int caughtCount() {
+        return count(caught);
+    }
+
+    public int seenCount() {
+        return count(seen);
+    }
+
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    private static int count(long[] words) {
+        int n = 0;
+        for (long w : words) n += Long.bitCount(w);
+        return n;
+    }
+
+    private static boolean test(long[] words, int id) {
+        if (id < 0) return false;
+        int word = id >>> 6;
+        return word < words.length && (words[word] & (1L << id)) != 0;
+    }
+
+    /**
+     * Mutable working copy; only ever touched by the thread building the next snapshot.
+     */
+    public static final class Builder {
+        private final DexSnapshot base;
+        private int session;
+        private SpeciesIndex species;
+        private FormIndex forms;
+        private final BitSet caught;
+        private final BitSet seen;
+        private final BitSet formCaught;
+        private final BitSet formSeen;
+        private boolean complete;
+        private boolean changed;
+
+        private Builder(DexSnapshot base) {
+            this.base = base;
+            this.session = base.session;
+            this.species = base.species;
+            this.forms = base.forms;
+            this.caught = BitSet.valueOf(base.caught);
+            this.seen = BitSet.valueOf(base.seen);
+            this.formCaught = BitSet.valueOf(base.formCaught);
+            this.formSeen = BitSet.valueOf(base.formSeen);
+            this.complete = base.complete;
+        }
+
+        public boolean markCaught(int id) {
+            if (id < 0 || caught.get(id)) return false;
+            caught.set(id);
+            changed = true;
+            return true;
+        }
+
+        public boolean markSeen(int id) {
+            if (id < 0 || seen.get(id)) return false;
+            seen.set(id);
+            changed = true;
+            return true;
+        }
+
+        public boolean markFormCaught(int formId) {
+            if (formId < 0 || formCaught.get(formId)) return false;
+            formCaught.set(formId);
+            changed = true;
+            return true;
+        }
+
+        public boolean markFormSeen(int formId) {
+            if (formId < 0 || formSeen.get(formId)) return false;
+            formSeen.set(formId);
+            changed = true;
+            return true;
+        }
+
+        public void complete(boolean complete) {
+            if (this.complete == complete) return;
+            this.complete = complete;
+            changed = true;
+        }
+
+        /**
+         * Replaces both sets wholesale (authoritative sync).
+         *
+         * @return the ids whose caught or seen bit flipped
+         */
+        public BitSet replace(BitSet authoritativeCaught, BitSet authoritativeSeen) {
+            return replace(caught, seen, authoritativeCaught, authoritativeSeen);
+        }
+
+        /**
+         * Replaces both form sets wholesale (authoritative sync).
+         *
+         * @return the form ids whose caught or seen bit flipped
+         */
+        public BitSet replaceForms(BitSet authoritativeCaught, BitSet authoritativeSeen) {
+            return replace(formCaught, formSeen, authoritativeCaught, authoritativeSeen);
+        }
+
+        private BitSet replace(BitSet caught, BitSet seen, BitSet authoritativeCaught, BitSet authoritativeSeen) {
+            BitSet flipped = (BitSet) caught.clone();
+            flipped.xor(authoritativeCaught);
+            BitSet seenFlipped = (BitSet) seen.clone();
+            seenFlipped.xor(authoritativeSeen);
+            flipped.or(seenFlipped);
+            if (!flipped.isEmpty()) {
+                caught.clear();
+                caught.or(authoritativeCaught);
+                seen.clear();
+                seen.or(authoritativeSeen);
+                changed = true;
+            }
+            return flipped;
+        }
+
+        /**
+         * Forgets everything, forms included.
+         *
+         * @return the species ids that were caught or seen
+         */
+        public BitSet clear() {
+            BitSet cleared = (BitSet) caught.clone();
+            cleared.or(seen);
+            if (!cleared.isEmpty() || !formCaught.isEmpty() || !formSeen.isEmpty()) {
+                caught.clear();
+                seen.clear();
+                formCaught.clear();
+                formSeen.clear();
+                changed = true;
+            }
+            complete(false);
+            return cleared;
+        }
+
+        /**
+         * Forgets everything and starts the next session with empty indices, so ids, spellings and forms
+         * interned in one session do not carry over.
+         */
+        public void nextSession() {
+            clear();
+            session++;
+            species = new SpeciesIndex();
+            forms = new FormIndex();
+            changed = true;
+        }
+
+        public boolean changed() {
+            return changed;
+        }
+
+        /**
+         * @return a new snapshot one epoch ahead of the base, or the base itself when nothing changed
+         */
+        public DexSnapshot build() {
+            if (!changed) return base;
+            return new DexSnapshot(base.epoch + 1, session, species, forms, caught.toLongArray(), seen.toLongArray(),
+                    formCaught.toLongArray(), formSeen.toLongArray(), complete);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.levelscraft7.catchindicator.client;
+
+import com.levelscraft7.catchindicator.core.DiscoveryStatus;
+import dev.architectury.platform.Platform;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ServerData;
+import net.minecraft.client.server.IntegratedServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Persists the resolved caught/seen state per server and per player, so nametags are right from the first
+ * frame after joining instead of waiting for Cobblemon's Pokédex sync.
+ * <p>
+ * Files live under {@code <game dir>/catchindicator/dex/<server>_<player uuid>.bin}. Species are stored by
+ * canonical key, never by {@link SpeciesIndex} id (ids are only stable within one session):
+ * <pre>
+ * int    magic 'CIDX'
+ * int    version
+ * int    entry count
+ * entry* byte flags (1 = caught, 2 = seen), unsigned short key length, key (UTF-8)
+ * </pre>
+ * A file that fails validation is ignored. What gets loaded is provisional until the server's full sync
+ * reconciles it, see {@link PokedexRefreshManager#restore}.
+ */
+public final class DexSnapshotStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("catchindicator");
+    private static final int MAGIC = 0x43494458;
+    private static final int VERSION = 1;
+    private static final int MAX_ENTRIES = 1 << 16;
+    private static final int MAX_FILE_SIZE = 4 << 20;
+    private static final int FLAG_CAUGHT = 1;
+    private static final int FLAG_SEEN = 2;
+
+    // File of the current session, null when not connected or the session cannot be keyed
+    private static volatile Path sessionFile;
+
+    private DexSnapshotStore() {
+    }
+
+    /**
+     * Client thread, on join: starts a fresh session and seeds it from this server's snapshot if there is one.
+     */
+    public static void onJoin() {
+        PokedexRefreshManager.resetSession();
+        Path file = sessionFile(Minecraft.getInstance());
+        sessionFile = file;
+        if (file == null || !Files.isRegularFile(file)) return;
+
+        BitSet caught = new BitSet();
+        BitSet seen = new BitSet();
+        if (read(file, caught, seen)) {
+            PokedexRefreshManager.restore(caught, seen);
+            LOGGER.debug("restored {} caught species from {}", caught.cardinality(), file.getFileName());
+        } else {
+            LOGGER.debug("ignoring invalid dex snapshot {}", file.getFileName());
+        }
+    }
+
+    /**
+     * Client thread, on disconnect: writes the session's state back and ends the session.
+     */
+    public static void onQuit() {
+        Path file = sessionFile;
+        sessionFile = null;
+        if (file != null) write(file, PokedexRefreshManager.snapshot());
+        PokedexRefreshManager.endSession();
+    }
+
+    static Path sessionFile(Minecraft mc) {
+        if (mc == null || mc.getUser() == null) return null;
+        UUID player = mc.getUser().getProfileId();
+        if (player == null) return null;
+
+        String server;
+        ServerData data = mc.getCurrentServer();
+        IntegratedServer integrated = mc.getSingleplayerServer();
+        if (data != null && data.ip != null) {
+            server = data.ip;
+        } else if (integrated != null && integrated.getWorldData() != null) {
+            server = "local-" + integrated.getWorldData().getLevelName();
+        } else {
+            return null;
+        }
+
+        String name = sanitize(server) + "_" + player + ".bin";
+        return Platform.getGameFolder().resolve("catchindicator").resolve("dex").resolve(name);
+    }
+
+    private static String sanitize(String s) {
+        StringBuilder out = new StringBuilder(s.length());
+        for (char c : s.toLowerCase(Locale.ROOT).toCharArray()) {
+            boolean ok = (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '.' || c == '-';
+            out.append(ok ? c : '_');
+        }
+        return out.toString();
+    }
+
+    /**
+     * Reads and validates a snapshot file, interning every key into the current session's species index.
+     *
+     * @return {@code false} if the file is unreadable or malformed; the bitsets are then left untouched
+     */
+    static boolean read(Path file, BitSet caught, BitSet seen) {
+        ByteBuffer buf;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < 12 || size > MAX_FILE_SIZE) return false;
+            // One bulk read: the file is a few KB, and a live mapping would keep it locked on Windows
+            buf = ByteBuffer.allocate((int) size);
+            while (buf.hasRemaining()) {
+                if (channel.read(buf) < 0) return false;
+            }
+            buf.flip();
+        } catch (IOException e) {
+            return false;
+        }
+
+        try {
+            if (buf.getInt() != MAGIC || buf.getInt() != VERSION) return false;
+            int count = buf.getInt();
+            if (count < 0 || count > MAX_ENTRIES) return false;
+
+            BitSet c = new BitSet();
+            BitSet s = new BitSet();
+            byte[] key = new byte[0xFFFF];
+            for (int i = 0; i < count; i++) {
+                int flags = buf.get();
+                int length = Short.toUnsignedInt(buf.getShort());
+                if ((flags & ~(FLAG_CAUGHT | FLAG_SEEN)) != 0 || flags == 0 || length == 0) return false;
+                buf.get(key, 0, length);
+
+                int id = PokedexRefreshManager.speciesId(new String(key, 0, length, StandardCharsets.UTF_8));
+                if (id == SpeciesIndex.NO_ID) continue;
+                if ((flags & FLAG_CAUGHT) != 0) c.set(id);
+                if ((flags & FLAG_SEEN) != 0) s.set(id);
+            }
+            if (buf.hasRemaining()) return false;
+
+            caught.or(c);
+            seen.or(s);
+            return true;
+        } catch (BufferUnderflowException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes {@code snapshot} atomically (temp file, then move over the old one). Never throws.
+     */
+    static void write(Path file, DexSnapshot snapshot) {
+        SpeciesIndex species = snapshot.species();
+        int total = species.size();
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+
+            int count = 0;
+            for (int id = 0; id < total; id++) {
+                if (snapshot.status(id) != DiscoveryStatus.UNKNOWN) count++;
+            }
+
+            try (OutputStream os = Files.newOutputStream(tmp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(count);
+                for (int id = 0; id < total; id++) {
+                    int flags = (snapshot.isCaught(id) ? FLAG_CAUGHT : 0) | (snapshot.isSeen(id) ? FLAG_SEEN : 0);
+                    if (flags == 0) continue;
+                    byte[] key = species.canonical(id).getBytes(StandardCharsets.UTF_8);
+                    out.writeByte(flags);
+                    out.writeShort(key.length);
+                    out.write(key);
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("could not save dex snapshot {}", file.getFileName(), e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.levelscraft7.catchindicator.client;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Interns Pokémon forms to dense ints so per-form state can live in bitsets next to the species ones.
+ * <p>
+ * A form is keyed by its {@link SpeciesIndex} species id and its form-only showdown id ({@code normal},
+ * {@code alola}, {@code galar}...). Spellings are normalized the way showdown ids are (lowercase, letters and
+ * digits only), and a blank form means the base form, {@code normal}.
+ * <p>
+ * At most {@link #MAX_FORMS} forms are interned; a fresh index is used per session.
+ * <p>
+ * Thread-safe: lookups of known forms are lock-free, only first sightings take the intern lock.
+ */
+public final class FormIndex {
+
+    public static final int NO_ID = -1;
+    public static final int MAX_FORMS = 1 << 16;
+    public static final String BASE_FORM = "normal";
+
+    // Form spelling -> form id, per species id; slots are set in place, the table is replaced when it grows
+    private volatile AtomicReferenceArray<Map<String, Integer>> bySpecies = new AtomicReferenceArray<>(16);
+    // Form id -> species id and normalized key, guarded by this
+    private final IntArrayList speciesOf = new IntArrayList();
+    private final List<String> keys = new ArrayList<>();
+
+    /**
+     * @return the id of an already interned form, or {@link #NO_ID}
+     */
+    public int find(int speciesId, String form) {
+        Map<String, Integer> forms = forms(speciesId);
+        if (forms == null) return NO_ID;
+        Integer id = forms.get(form != null ? form : BASE_FORM);
+        if (id == null) id = forms.get(normalize(form));
+        return id != null ? id : NO_ID;
+    }
+
+    /**
+     * @return the id of a form, interning it on first sight, or {@link #NO_ID} for an invalid species id and
+     * for new forms once the index is full
+     */
+    public int intern(int speciesId, String form) {
+        if (speciesId < 0) return NO_ID;
+        int id = find(speciesId, form);
+        if (id != NO_ID) return id;
+
+        String key = normalize(form);
+        synchronized (this) {
+            if (speciesOf.size() >= MAX_FORMS && find(speciesId, form) == NO_ID) return NO_ID;
+            Map<String, Integer> forms = forms(speciesId);
+            if (forms == null) {
+                forms = new ConcurrentHashMap<>(4);
+                table(speciesId).set(speciesId, forms);
+            }
+            Integer existing = forms.get(key);
+            if (existing == null) {
+                existing = speciesOf.size();
+                speciesOf.add(speciesId);
+                keys.add(key);
+                forms.put(key, existing);
+            }
+            if (form != null) forms.putIfAbsent(form, existing);
+            return existing;
+        }
+    }
+
+    /**
+     * @return whether any form of this species has been interned
+     */
+    public boolean hasForms(int speciesId) {
+        return forms(speciesId) != null;
+    }
+
+    /**
+     * @return the ids of every form interned for this species, ascending
+     */
+    public int[] formsOf(int speciesId) {
+        Map<String, Integer> forms = forms(speciesId);
+        if (forms == null) return new int[0];
+        return forms.values().stream().mapToInt(Integer::intValue).distinct().sorted().toArray();
+    }
+
+    /**
+     * @return the normalized key of a form id, or {@code null}
+     */
+    public synchronized String key(int formId) {
+        return formId >= 0 && formId < keys.size() ? keys.get(formId) : null;
+    }
+
+    /**
+     * @return the species id a form belongs to, or {@link SpeciesIndex#NO_ID}
+     */
+    public synchronized int speciesOf(int formId) {
+        return formId >= 0 && formId < speciesOf.size() ? speciesOf.getInt(formId) : SpeciesIndex.NO_ID;
+    }
+
+    public synchronized int size() {
+        return speciesOf.size();
+    }
+
+    static String normalize(String form) {
+        if (form == null) return BASE_FORM;
+        StringBuilder out = new StringBuilder(form.length());
+        for (int i = 0; i < form.length(); i++) {
+            char c = Character.toLowerCase(form.charAt(i));
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) out.append(c);
+        }
+        return out.isEmpty() ? BASE_FORM : out.toString();
+    }
+
+    private Map<String, Integer> forms(int speciesId) {
+        AtomicReferenceArray<Map<String, Integer>> current = bySpecies;
+        return speciesId >= 0 && speciesId < current.length() ? current.get(speciesId) : null;
+    }
+
+    /**
+     * Intern lock held: the table, grown by half (or to fit) when {@code speciesId} is past its end.
+     */
+    private AtomicReferenceArray<Map<String, Integer>> table(int speciesId) {
+        AtomicReferenceArray<Map<String, Integer>> current = bySpecies;
+        int length = current.length();
+        if (speciesId < length) return current;
+        AtomicReferenceArray<Map<String, Integer>> grown =
+                new AtomicReferenceArray<>(Math.max(speciesId + 1, length + (length >> 1)));
+        for (int i = 0; i < length; i++) {
+            grown.set(i, current.get(i));
+        }
+        bySpecies = grown;
+        return grown;
+    }
+}
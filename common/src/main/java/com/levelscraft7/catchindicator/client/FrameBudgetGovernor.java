@@ -0,0 +1,151 @@
+package com.levelscraft7.catchindicator.client;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.world.entity.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+
+/**
+ * Scales nametag decoration down when the client is struggling, and back up when it recovers.
+ * <p>
+ * Every {@value #WINDOW_TICKS} client ticks the governor compares the mod's measured cost per frame with
+ * {@link CatchIndicatorConfig#governorBudgetMicros()} and the frame time with the configured target fps:
+ * <ul>
+ *     <li>{@link Tier#FULL}: everything, live Pokédex lookups and reflective fallbacks included</li>
+ *     <li>{@link Tier#CACHED_ONLY}: names come from the cache and the index only, no live lookups</li>
+ *     <li>{@link Tier#NEARBY_ONLY}: as above, and only Pokémon within {@code governor.nearbyRadius} are newly
+ *     decorated; names already cached are still served</li>
+ * </ul>
+ * Stepping down takes {@value #DOWNGRADE_WINDOWS} bad windows in a row, stepping up {@value #UPGRADE_WINDOWS}
+ * good ones with frames well under target, so the tier does not flap around the threshold.
+ * {@code governor.tier} pins a tier instead.
+ */
+public final class FrameBudgetGovernor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("catchindicator");
+    private static final int WINDOW_TICKS = 10;
+    private static final int DOWNGRADE_WINDOWS = 2;
+    private static final int UPGRADE_WINDOWS = 8;
+
+    public enum Tier {
+        FULL,
+        CACHED_ONLY,
+        NEARBY_ONLY;
+
+        /**
+         * @return the tier named by a config value ({@code full}, {@code cached_only}, {@code nearby-only}...),
+         * or {@code null} for {@code auto} and anything unknown
+         */
+        public static Tier fromConfig(String value) {
+            String key = value.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+            for (Tier tier : values()) {
+                if (tier.name().equals(key)) return tier;
+            }
+            return null;
+        }
+    }
+
+    private static volatile Tier tier = Tier.FULL;
+    // Client thread only
+    private static long windowCostNanos;
+    private static long windowStart = System.nanoTime();
+    private static int windowTicks;
+    private static int badWindows;
+    private static int goodWindows;
+    private static volatile long costPerFrameMicros;
+    private static volatile int tierChanges;
+
+    private FrameBudgetGovernor() {
+    }
+
+    public static Tier tier() {
+        return tier;
+    }
+
+    /**
+     * Whether a cache miss may ask Cobblemon's live Pokédex (and its reflective fallbacks).
+     */
+    public static boolean allowsLiveLookups() {
+        return tier == Tier.FULL;
+    }
+
+    /**
+     * Whether a cache miss for this entity is resolved under the current tier. Client thread. Anything that is
+     * not a Minecraft entity has no position to judge and is resolved.
+     */
+    public static boolean shouldDecorate(Object entity) {
+        if (tier != Tier.NEARBY_ONLY || !(entity instanceof Entity e)) return true;
+        Entity camera = Minecraft.getInstance().getCameraEntity();
+        if (camera == null) return true;
+        double radius = CatchIndicatorConfig.governorNearbyRadius();
+        return camera.distanceToSqr(e) <= radius * radius;
+    }
+
+    /**
+     * Client thread: adds measured mod work to the current window.
+     */
+    public static void record(long nanos) {
+        windowCostNanos += nanos;
+    }
+
+    /**
+     * Client thread, once per client tick.
+     */
+    public static void tick() {
+        if (++windowTicks < WINDOW_TICKS) return;
+        long now = System.nanoTime();
+        long elapsed = Math.max(1L, now - windowStart);
+        long cost = windowCostNanos;
+        windowStart = now;
+        windowTicks = 0;
+        windowCostNanos = 0L;
+
+        int fps = Math.max(1, Minecraft.getInstance().getFps());
+        double frames = Math.max(1.0, fps * (elapsed / 1_000_000_000.0));
+        long perFrame = (long) (cost / frames / 1_000);
+        costPerFrameMicros = perFrame;
+
+        Tier pinned = CatchIndicatorConfig.governorTier();
+        if (pinned != null || !CatchIndicatorConfig.governorEnabled()) {
+            setTier(pinned != null ? pinned : Tier.FULL);
+            return;
+        }
+
+        long budget = CatchIndicatorConfig.governorBudgetMicros();
+        int targetFps = CatchIndicatorConfig.governorTargetFps();
+        boolean slow = fps < targetFps;
+        if (slow && perFrame > budget) {
+            goodWindows = 0;
+            if (++badWindows >= DOWNGRADE_WINDOWS && tier != Tier.NEARBY_ONLY) {
+                badWindows = 0;
+                setTier(Tier.values()[tier.ordinal() + 1]);
+            }
+        } else if (fps >= targetFps + targetFps / 4 && perFrame < budget / 2) {
+            badWindows = 0;
+            if (++goodWindows >= UPGRADE_WINDOWS && tier != Tier.FULL) {
+                goodWindows = 0;
+                setTier(Tier.values()[tier.ordinal() - 1]);
+            }
+        } else {
+            badWindows = 0;
+            goodWindows = 0;
+        }
+    }
+
+    public static String describe() {
+        return String.format(Locale.ROOT, "governor: %s%s, mod cost %d µs/frame, %d tier changes",
+                tier, CatchIndicatorConfig.governorTier() != null ? " (pinned)" : "", costPerFrameMicros, tierChanges);
+    }
+
+    private static void setTier(Tier next) {
+        Tier previous = tier;
+        if (previous == next) return;
+        tier = next;
+        tierChanges++;
+        // Names resolved under a lower tier may be incomplete; re-resolve them at full fidelity
+        if (next.ordinal() < previous.ordinal()) NametagDecorationCache.clear();
+        LOGGER.debug("governor: {} -> {}", previous, next);
+    }
+}
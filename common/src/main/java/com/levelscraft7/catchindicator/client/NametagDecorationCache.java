@@ -0,0 +1,87 @@
+package com.levelscraft7.catchindicator.client;
+
+import com.levelscraft7.catchindicator.client.render.IndicatorIcon;
+import com.levelscraft7.catchindicator.core.DiscoveryStatus;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.Entity;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Per-entity memo of the decorated Pokémon nametag.
+ * <p>
+ * Entries are keyed by the entity itself (entities hash and compare by their network id) and weakly held,
+ * so unloaded entities drop out on their own. An entry stays valid until it is invalidated (the entity's
+ * species changed status, see {@link NametagRefreshScheduler}) or the entity reports a
+ * different vanilla name (species, form or nickname change). Hits return the same shared {@link Component}
+ * instance every time. Status changes do not invalidate: {@link NametagRefreshScheduler} rebuilds entries in
+ * place within its budget, and the previous entry is served until then.
+ * <p>
+ * Only client-side entities accessed from the client thread are cached; everything else (integrated
+ * server entities, off-thread callers) goes through the uncached path. {@link HeadlessEntity} stand-ins count
+ * as the former.
+ */
+public final class NametagDecorationCache {
+
+    private static final Map<Object, Entry> ENTRIES = new WeakHashMap<>();
+
+    private NametagDecorationCache() {
+    }
+
+    /**
+     * Marks a stand-in for a client-side entity in a headless run (the benchmarks' load simulation), where no
+     * client level exists to build a Minecraft entity in. Stand-ins are cached and tracked like the client
+     * entities they stand for, on the thread that decorates them; only the position-based parts (nearby
+     * queries, the nearby-only governor tier) leave them out.
+     */
+    public interface HeadlessEntity {
+    }
+
+    /**
+     * @param label     the name without its indicator: the original, or {@code ???}
+     * @param icon      indicator drawn next to {@code label}
+     * @param decorated {@code label} with the icon composed in as a font glyph
+     */
+    public record Entry(Component original, DiscoveryStatus status, Component label, IndicatorIcon icon,
+                        Component decorated) {
+    }
+
+    public static boolean isCacheable(Object entity) {
+        if (entity instanceof HeadlessEntity) return true;
+        if (!(entity instanceof Entity e) || !e.level().isClientSide()) return false;
+        Minecraft mc = Minecraft.getInstance();
+        return mc != null && mc.isSameThread();
+    }
+
+    /**
+     * @return the cached entry if it is still valid for {@code original}, otherwise {@code null}
+     */
+    public static Entry get(Object entity, Component original) {
+        Entry entry = ENTRIES.get(entity);
+        if (entry == null) return null;
+        if (entry.original() != original && !entry.original().equals(original)) return null;
+        return entry;
+    }
+
+    /**
+     * @return the cached entry, whatever name it was built for, or {@code null}
+     */
+    public static Entry peek(Object entity) {
+        return ENTRIES.get(entity);
+    }
+
+    public static Entry put(Object entity, Entry entry) {
+        ENTRIES.put(entity, entry);
+        return entry;
+    }
+
+    public static void invalidate(Object entity) {
+        ENTRIES.remove(entity);
+    }
+
+    public static void clear() {
+        ENTRIES.clear();
+    }
+}
@@ -0,0 +1,264 @@
+package com.levelscraft7.catchindicator.client;
+
+import com.levelscraft7.catchindicator.client.diagnostics.CatchIndicatorStats;
+import com.levelscraft7.catchindicator.client.diagnostics.NametagDecorationEvent;
+import com.levelscraft7.catchindicator.client.render.IndicatorIcon;
+import com.levelscraft7.catchindicator.core.DiscoveryStatus;
+import com.levelscraft7.catchindicator.core.adapter.CobblemonAdapter;
+import com.levelscraft7.catchindicator.core.adapter.CobblemonAdapters;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.profiling.InactiveProfiler;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.entity.Entity;
+
+/**
+ * Builds the decorated nametag of a Pokémon entity.
+ * <p>
+ * Only the nametag renderer decorates by default (see {@code EntityRendererNameTagMixin}); everything else
+ * sees the vanilla name. Other UI surfaces opt in with {@link #decoratedName}, which composes the icon in as a
+ * font glyph; the nametag itself keeps them apart ({@link #entry}) so the icon can be batched.
+ *
+ * CAUGHT  -> original name + icon (gray when this form is not caught yet)
+ * SEEN    -> original name
+ * UNKNOWN -> hide name as "???" (owned Pokémon only, wild ones keep their name)
+ */
+public final class NametagDecorator {
+
+    private static final String PROFILER_SECTION = "catchindicator_nametag";
+
+    private static final Component CAUGHT_GLYPH = Component.literal("\ua000")
+            .withStyle(s -> s
+                    .withFont(ResourceLocation.fromNamespaceAndPath("catchindicator", "default"))
+                    .withColor(0xFFFFFF)
+            );
+    // Species caught, but not in the form this Pokémon has
+    private static final Component FORM_MISSING_GLYPH = Component.literal("\ua000")
+            .withStyle(s -> s
+                    .withFont(ResourceLocation.fromNamespaceAndPath("catchindicator", "default"))
+                    .withColor(0x808080)
+            );
+
+    private NametagDecorator() {
+    }
+
+    /**
+     * Opt-in entry point for UI that shows a Pokémon's name outside its nametag (HUDs, tooltips...).
+     *
+     * @return the entity's display name, decorated when it is a Pokémon
+     */
+    public static Component decoratedName(Entity entity) {
+        if (entity == null) return null;
+        return decorate(entity, entity.getDisplayName());
+    }
+
+    /**
+     * Returns the decorated name for {@code entity}, memoized per entity when possible.
+     *
+     * @return the name to display, or {@code original} when the entity is not a resolvable Pokémon
+     */
+    public static Component decorate(Object entity, Component original) {
+        NametagDecorationCache.Entry entry = entry(entity, original);
+        return entry != null ? entry.decorated() : original;
+    }
+
+    /**
+     * Same as {@link #decorate}, with the name and its indicator icon kept apart for
+     * {@link com.levelscraft7.catchindicator.client.render.IndicatorRenderer}.
+     * <p>
+     * A cache hit is the lookup and nothing else: drawn every frame for every Pokémon in view, it is not
+     * timed, profiled or sampled. Misses pay for that, and are what the governor budgets; cached names are
+     * served under every tier.
+     *
+     * @return the decoration, or {@code null} when {@code original} is shown as is
+     */
+    public static NametagDecorationCache.Entry entry(Object entity, Component original) {
+        if (original == null) return null;
+        if (!NametagDecorationCache.isCacheable(entity)) return decorate(entity, original, false);
+
+        NametagDecorationCache.Entry cached = NametagDecorationCache.get(entity, original);
+        if (cached != null) {
+            CatchIndicatorStats.cacheHit();
+            return cached;
+        }
+        if (!FrameBudgetGovernor.shouldDecorate(entity)) return null;
+
+        // Shows up in the F3 pie chart and /debug reports; cacheable implies the client thread, which has a
+        // client instance everywhere but in headless runs
+        long start = System.nanoTime();
+        Minecraft mc = Minecraft.getInstance();
+        ProfilerFiller profiler = mc != null ? mc.getProfiler() : InactiveProfiler.INSTANCE;
+        profiler.push(PROFILER_SECTION);
+        try {
+            return decorate(entity, original, true);
+        } finally {
+            profiler.pop();
+            FrameBudgetGovernor.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Client thread: rebuilds the cached decoration of {@code entity} in place, against the name it was built
+     * for, so a status refresh is paid where {@link NametagRefreshScheduler} budgets it rather than at the
+     * next draw. An entity without a cached decoration is left to its next draw.
+     *
+     * @return whether a decoration was rebuilt
+     */
+    static boolean redecorate(Object entity) {
+        NametagDecorationCache.Entry stale = NametagDecorationCache.peek(entity);
+        if (stale == null) return false;
+        NametagDecorationCache.Entry fresh = entity instanceof Entity e && e.isRemoved() ? null
+                : resolve(CobblemonAdapters.get(), entity, stale.original(), null);
+        if (fresh != null) {
+            NametagDecorationCache.put(entity, fresh);
+        } else {
+            NametagDecorationCache.invalidate(entity);
+        }
+        return true;
+    }
+
+    // Cache misses and uncached entities
+    private static NametagDecorationCache.Entry decorate(Object entity, Component original, boolean cacheable) {
+        NametagDecorationEvent sample = CatchIndicatorStats.sampleDecoration();
+        CatchIndicatorStats.decoration();
+
+        NametagDecorationCache.Entry resolved = resolve(CobblemonAdapters.get(), entity, original, sample);
+        if (sample != null) CatchIndicatorStats.commit(sample);
+        if (resolved != null && cacheable) {
+            NametagDecorationCache.put(entity, resolved);
+        }
+        return resolved;
+    }
+
+    /**
+     * Runs the full decoration pipeline for one entity.
+     *
+     * @param sample sampled JFR event to fill in with the path taken, or {@code null}
+     * @return the resolved status and decorated name, or {@code null} when the species cannot be resolved
+     */
+    static NametagDecorationCache.Entry resolve(CobblemonAdapter adapter, Object entity, Component original,
+                                                NametagDecorationEvent sample) {
+        if (sample != null) sample.path = "unresolved";
+        Object pokemon = adapter.pokemon(entity);
+        if (pokemon == null) return null;
+
+        String speciesId = speciesId(adapter, pokemon);
+        if (speciesId == null) return null;
+
+        // A species a live entity reports is real, so it is interned here; the status lookups below only read
+        int id = PokedexRefreshManager.speciesId(speciesId);
+        // Keep the registry's species bucket current, invalidation goes through it
+        if (NametagDecorationCache.isCacheable(entity)) {
+            TrackedPokemonRegistry.index(entity, id);
+        }
+
+        boolean wild = OwnershipCache.isWild(adapter, entity, pokemon);
+        if (sample != null) sample.wild = wild;
+
+        String form = adapter.formId(pokemon);
+        if (form != null && form.isBlank()) form = null;
+
+        // If we ever see an owned Pokemon of this species, mark the species (and its form) as caught for this session
+        if (!wild) {
+            PokedexRefreshManager.markSpeciesCaught(speciesId, form);
+        }
+
+        // Absolute rule: species already caught => icon everywhere (including wild)
+        DiscoveryStatus known = PokedexRefreshManager.knownStatus(speciesId);
+        boolean live = known == DiscoveryStatus.UNKNOWN && !PokedexRefreshManager.hasFullTable()
+                && FrameBudgetGovernor.allowsLiveLookups();
+        if (sample != null) {
+            sample.path = live ? "live-dex" : "index";
+            sample.status = known.name();
+        }
+        if (known == DiscoveryStatus.CAUGHT) {
+            return entry(original, DiscoveryStatus.CAUGHT, original, caughtIcon(speciesId, form));
+        }
+
+        // Not caught yet: the table answers once a full sync built it, before that only SEEN is reliable
+        DiscoveryStatus status = known;
+        if (live) {
+            CatchIndicatorStats.liveDexLookup();
+            status = adapter.discoveryStatus(pokemon);
+            if (sample != null) sample.status = status.name();
+        }
+        if (status == DiscoveryStatus.CAUGHT) {
+            PokedexRefreshManager.markSpeciesCaught(speciesId);
+        } else if (status == DiscoveryStatus.SEEN) {
+            PokedexRefreshManager.markSpeciesSeen(speciesId);
+        }
+
+        if (wild && status == DiscoveryStatus.UNKNOWN) {
+            return entry(original, status, original, IndicatorIcon.NONE);
+        }
+
+        if (status == DiscoveryStatus.CAUGHT) {
+            return entry(original, status, original, caughtIcon(speciesId, form));
+        } else if (status == DiscoveryStatus.SEEN) {
+            return entry(original, status, original, IndicatorIcon.NONE); // keep as is
+        }
+        return entry(original, status, Component.literal("???"), IndicatorIcon.NONE);
+    }
+
+    /**
+     * @return a stable, non empty species id for {@code pokemon}, or {@code null}
+     */
+    static String speciesId(CobblemonAdapter adapter, Object pokemon) {
+        String speciesId = adapter.showdownId(pokemon);
+        if (speciesId == null || speciesId.isBlank()) {
+            // fallback: try species resource location string
+            ResourceLocation rl = adapter.speciesIdentifier(pokemon);
+            if (rl != null) speciesId = rl.toString();
+        }
+        return speciesId == null || speciesId.isBlank() ? null : speciesId;
+    }
+
+    /**
+     * Runs the self-contained parts of {@link #resolve} (snapshot lookups, name building) against a
+     * throwaway snapshot, so they are compiled before the first world render. Touches no shared state.
+     *
+     * @return how many decorated names were built
+     */
+    static int warmUp(int iterations) {
+        DexSnapshot.Builder builder = DexSnapshot.empty().toBuilder();
+        for (int id = 0; id < 64; id += 4) {
+            builder.markCaught(id);
+            builder.markSeen(id + 1);
+        }
+        DexSnapshot dex = builder.build();
+        Component name = Component.literal("Warm-up");
+        // Loads the JFR event class, which registers it; nothing is committed
+        new NametagDecorationEvent();
+
+        int built = 0;
+        for (int i = 0; i < iterations; i++) {
+            DiscoveryStatus status = dex.status(i & 63);
+            IndicatorIcon icon = status == DiscoveryStatus.CAUGHT ? IndicatorIcon.CAUGHT : IndicatorIcon.NONE;
+            NametagDecorationCache.Entry entry = entry(name, status, name, icon);
+            if (entry.decorated() != name) built++;
+        }
+        return built;
+    }
+
+    private static IndicatorIcon caughtIcon(String speciesId, String form) {
+        return PokedexRefreshManager.isFormMissing(speciesId, form) ? IndicatorIcon.FORM_MISSING : IndicatorIcon.CAUGHT;
+    }
+
+    private static NametagDecorationCache.Entry entry(Component original, DiscoveryStatus status, Component label,
+                                                      IndicatorIcon icon) {
+        Component decorated = switch (icon) {
+            case NONE -> label;
+            case CAUGHT -> withGlyph(label, CAUGHT_GLYPH);
+            case FORM_MISSING -> withGlyph(label, FORM_MISSING_GLYPH);
+        };
+        return new NametagDecorationCache.Entry(original, status, label, icon, decorated);
+    }
+
+    private static Component withGlyph(Component label, Component glyph) {
+        return Component.empty()
+                .append(glyph)
+                .append(Component.literal(" "))
+                .append(label);
+    }
+}
@@ -0,0 +1,103 @@
+package com.levelscraft7.catchindicator.client;
+
+import com.levelscraft7.catchindicator.client.diagnostics.CatchIndicatorStats;
+import com.levelscraft7.catchindicator.client.diagnostics.NametagRefreshEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Turns Pokédex changes into re-decorated nametags, on the client tick.
+ * <p>
+ * Requests from any thread are coalesced: the first one opens a window of
+ * {@link CatchIndicatorConfig#refreshCoalesceTicks()} ticks, and everything that changed by the end of it
+ * is refreshed together. The affected entities go to a queue that is drained within
+ * {@link CatchIndicatorConfig#refreshBudgetMicros()} per tick. Draining rebuilds each decoration in place
+ * ({@link NametagDecorator#redecorate}) and entities still queued keep their previous one, so a catch in a
+ * crowded area spreads its re-decoration over several ticks instead of landing in the next frame.
+ */
+public final class NametagRefreshScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("catchindicator");
+    // Entities re-decorated between two clock reads
+    private static final int CLOCK_STRIDE = 4;
+
+    private static final AtomicBoolean REQUESTED = new AtomicBoolean();
+    // Client thread only
+    private static final ArrayDeque<Object> QUEUE = new ArrayDeque<>();
+    private static int windowTicks = -1;
+
+    private NametagRefreshScheduler() {
+    }
+
+    /**
+     * Any thread: some species changed status, see {@link PokedexRefreshManager#drainChanged()}.
+     */
+    public static void request() {
+        REQUESTED.set(true);
+    }
+
+    public static int backlog() {
+        return QUEUE.size();
+    }
+
+    /**
+     * Client thread, once per client tick.
+     */
+    public static void tick() {
+        int species = 0;
+        int queued = 0;
+        if (REQUESTED.get()) {
+            if (windowTicks < 0) windowTicks = CatchIndicatorConfig.refreshCoalesceTicks();
+            if (windowTicks-- <= 0) {
+                windowTicks = -1;
+                // Cleared before draining: a change published meanwhile re-requests and is not lost
+                REQUESTED.set(false);
+                BitSet changed = PokedexRefreshManager.drainChanged();
+                species = changed.cardinality();
+                StatusListeners.dispatch(changed, PokedexRefreshManager.epoch());
+                queued = TrackedPokemonRegistry.collectSpecies(changed, QUEUE);
+            }
+        }
+        if (QUEUE.isEmpty()) return;
+
+        NametagRefreshEvent event = new NametagRefreshEvent();
+        event.begin();
+        long start = System.nanoTime();
+        int touched = drain(CatchIndicatorConfig.refreshBudgetMicros() * 1_000L);
+        FrameBudgetGovernor.record(System.nanoTime() - start);
+        event.end();
+
+        int backlog = QUEUE.size();
+        CatchIndicatorStats.refresh(touched, backlog);
+        if (event.shouldCommit()) {
+            event.speciesChanged = species;
+            event.entitiesTouched = touched;
+            event.backlog = backlog;
+            event.commit();
+        }
+        if (species > 0) {
+            LOGGER.debug("refresh: {} species, {} entities queued, {} left after this tick", species, queued, backlog);
+        }
+    }
+
+    public static void clear() {
+        QUEUE.clear();
+        windowTicks = -1;
+    }
+
+    private static int drain(long budgetNanos) {
+        long deadline = System.nanoTime() + budgetNanos;
+        int touched = 0;
+        Object entity;
+        while ((entity = QUEUE.poll()) != null) {
+            NametagDecorator.redecorate(entity);
+            touched++;
+            if (touched % CLOCK_STRIDE == 0 && System.nanoTime() >= deadline) break;
+        }
+        return touched;
+    }
+}
@@ -0,0 +1,67 @@
+package com.levelscraft7.catchindicator.client;
+
+import com.levelscraft7.catchindicator.core.adapter.CobblemonAdapter;
+import com.levelscraft7.catchindicator.mixin.accessor.TamableAnimalAccessor;
+import net.minecraft.network.syncher.SynchedEntityData;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.TamableAnimal;
+
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Per-entity memo of the wild/owned classification.
+ * <p>
+ * Ownership of a given entity practically never changes, but working it out can fall back to a reflective
+ * scan of every field of the entity. The flag is computed the first time an entity is decorated and kept
+ * until the server syncs a new owner for that entity ({@link #onEntityDataUpdate}). Cobblemon syncs pose and
+ * behaviour flags many times a second; those updates leave the flag and the decorated name alone.
+ * <p>
+ * Same threading rules as {@link NametagDecorationCache}: non-cacheable callers always recompute.
+ */
+public final class OwnershipCache {
+
+    private static final Map<Object, Boolean> WILD = new WeakHashMap<>();
+
+    private OwnershipCache() {
+    }
+
+    public static boolean isWild(CobblemonAdapter adapter, Object entity, Object pokemon) {
+        if (!NametagDecorationCache.isCacheable(entity)) return adapter.isWild(entity, pokemon);
+
+        Boolean cached = WILD.get(entity);
+        if (cached != null) return cached;
+
+        boolean wild = adapter.isWild(entity, pokemon);
+        WILD.put(entity, wild);
+        return wild;
+    }
+
+    /**
+     * Called on the client thread after a {@code ClientboundSetEntityDataPacket} was applied to {@code entity}.
+     *
+     * @param items the packet's data values
+     */
+    public static void onEntityDataUpdate(Entity entity, List<SynchedEntityData.DataValue<?>> items) {
+        if (entity == null || !touchesOwner(entity, items)) return;
+        // The decorated name depends on the flag, so it goes too
+        if (WILD.remove(entity) != null) {
+            NametagDecorationCache.invalidate(entity);
+        }
+    }
+
+    private static boolean touchesOwner(Entity entity, List<SynchedEntityData.DataValue<?>> items) {
+        // Not a tamable: no known owner slot, so any update may have changed it
+        if (!(entity instanceof TamableAnimal)) return true;
+        int owner = TamableAnimalAccessor.catchindicator$ownerUuidData().id();
+        for (int i = 0, n = items.size(); i < n; i++) {
+            if (items.get(i).id() == owner) return true;
+        }
+        return false;
+    }
+
+    public static void clear() {
+        WILD.clear();
+    }
+}
@@ -0,0 +1,136 @@
+package com.levelscraft7.catchindicator.client;
+
+import com.levelscraft7.catchindicator.client.diagnostics.CatchIndicatorStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Moves Pokédex scans off the thread that received the sync.
+ * <p>
+ * The Cobblemon hooks run on the client thread, where Cobblemon writes its Pokédex maps: they copy the
+ * references to the records concerned ({@link PokedexRefreshManager#captureFull},
+ * {@link PokedexRefreshManager#captureIncremental}) and enqueue the copy, which costs a pass over the species
+ * map and no adapter call. One daemon worker drains the queue in batches and reads and scans the copied
+ * records through {@link PokedexRefreshManager}, which publishes the result as a new {@link DexSnapshot}; it
+ * never walks Cobblemon's species map. Within a batch, the last full sync supersedes the jobs queued before it, whose changes
+ * its copy already holds, and the incremental jobs queued after it are applied on top, in order.
+ */
+public final class PokedexIngestion {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("catchindicator");
+    private static final int MAX_BATCH = 64;
+
+    private static final BlockingQueue<Job> QUEUE = new LinkedBlockingQueue<>();
+    // Bumped on disconnect so jobs from the previous session are dropped
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+    private static volatile Thread worker;
+
+    private PokedexIngestion() {
+    }
+
+    private enum Kind {
+        FULL,
+        INCREMENTAL
+    }
+
+    private record Job(Kind kind, PokedexRefreshManager.Capture capture, int generation) {
+    }
+
+    /**
+     * Thread Cobblemon writes its Pokédex from (the client thread): Cobblemon installed a whole new client
+     * Pokédex.
+     */
+    public static void submitFull(Object clientPokedexManager) {
+        submit(Kind.FULL, PokedexRefreshManager.captureFull(clientPokedexManager));
+    }
+
+    /**
+     * Thread Cobblemon writes its Pokédex from (the client thread): Cobblemon merged an incremental Pokédex
+     * payload.
+     */
+    public static void submitIncremental(Object payload) {
+        submit(Kind.INCREMENTAL, PokedexRefreshManager.captureIncremental(payload));
+    }
+
+    /**
+     * Drops every queued job; a scan already running still publishes, into the session being closed.
+     */
+    public static void discard() {
+        GENERATION.incrementAndGet();
+        QUEUE.clear();
+    }
+
+    public static int pending() {
+        return QUEUE.size();
+    }
+
+    private static void submit(Kind kind, PokedexRefreshManager.Capture capture) {
+        if (capture == null) return;
+        QUEUE.add(new Job(kind, capture, GENERATION.get()));
+        if (worker == null) startWorker();
+    }
+
+    private static synchronized void startWorker() {
+        if (worker != null) return;
+        Thread thread = new Thread(PokedexIngestion::run, "CatchIndicator Pokedex");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.NORM_PRIORITY - 1);
+        worker = thread;
+        thread.start();
+    }
+
+    private static void run() {
+        List<Job> batch = new ArrayList<>(MAX_BATCH);
+        while (true) {
+            try {
+                batch.add(QUEUE.take());
+            } catch (InterruptedException e) {
+                worker = null;
+                return;
+            }
+            QUEUE.drainTo(batch, MAX_BATCH - 1);
+            process(batch);
+            batch.clear();
+        }
+    }
+
+    private static void process(List<Job> batch) {
+        int generation = GENERATION.get();
+        int lastFull = -1;
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            if (batch.get(i).kind() == Kind.FULL) {
+                lastFull = i;
+                break;
+            }
+        }
+
+        // Everything before the last full sync is already in its copy
+        int ran = 0;
+        for (int i = Math.max(lastFull, 0); i < batch.size(); i++) {
+            ran += run(batch.get(i), generation);
+        }
+        CatchIndicatorStats.ingestionBatch(batch.size(), batch.size() - ran);
+    }
+
+    private static int run(Job job, int generation) {
+        if (job.generation() != generation) return 0;
+        try {
+            if (job.kind() == Kind.FULL) {
+                PokedexRefreshManager.applyFull(job.capture());
+            } else {
+                PokedexRefreshManager.applyIncremental(job.capture());
+            }
+        } catch (RuntimeException | LinkageError e) {
+            // Never let one bad payload take the worker down
+            LOGGER.warn("pokedex {} sync failed", job.kind().name().toLowerCase(Locale.ROOT), e);
+        }
+        return 1;
+    }
+}
@@ -1,261 +1,662 @@
 package com.levelscraft7.catchindicator.client;
 
-import net.minecraft.client.Minecraft;
-import net.minecraft.network.protocol.game.ClientboundSetEntityDataPacket;
-import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.entity.LivingEntity;
+import com.levelscraft7.catchindicator.client.diagnostics.CatchIndicatorStats;
+import com.levelscraft7.catchindicator.client.diagnostics.PokedexSyncEvent;
+import com.levelscraft7.catchindicator.core.DiscoveryStatus;
+import com.levelscraft7.catchindicator.core.adapter.CobblemonAdapter;
+import com.levelscraft7.catchindicator.core.adapter.CobblemonAdapters;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
-
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Owns the client's view of which species are caught or seen.
+ * <p>
+ * The state lives in an immutable {@link DexSnapshot} behind one volatile reference, together with the
+ * session's species and form indices. Syncs are applied by the {@link PokedexIngestion} worker (and marks
+ * can come from any thread): writers build the next snapshot on the side and publish it in a single write,
+ * serialized by a lock that readers never take. Readers take the snapshot once and resolve ids through it.
+ */
 public final class PokedexRefreshManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger("catchindicator");
-    private static final String POKEMON_ENTITY_CLASS = "com.cobblemon.mod.common.entity.pokemon.PokemonEntity";
-    private static final Set<String> CAUGHT_SPECIES = new HashSet<>();
-    private static final AtomicBoolean NEEDS_REFRESH = new AtomicBoolean(false);
+    // Serializes writers only; the render thread just reads the volatile snapshot.
+    private static final Object WRITE_LOCK = new Object();
+    // Full scans of at least this many records are split across the common ForkJoin pool
+    private static final int PARALLEL_SCAN_THRESHOLD = 512;
+    // Also carries the session and its indices; endSession() swaps all three in the same write
+    private static volatile DexSnapshot snapshot = DexSnapshot.empty();
+    // Species whose status changed since the last refresh, guarded by WRITE_LOCK
+    private static final BitSet PENDING = new BitSet();
+    // Set while the caught set comes from the on-disk snapshot and the server has not confirmed it yet
+    private static volatile boolean provisional;
+    // Set while the server companion feeds the table; Cobblemon's client Pokédex is not scanned meanwhile
+    private static volatile boolean serverAuthoritative;
 
     private PokedexRefreshManager() {
     }
 
+    public static DexSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Bumped whenever the caught or seen set changes.
+     */
+    public static long epoch() {
+        return snapshot.epoch();
+    }
+
+    /**
+     * @return the dense {@link SpeciesIndex} id of any spelling of a species, or {@link SpeciesIndex#NO_ID}
+     */
+    public static int speciesId(String anyId) {
+        if (anyId == null || anyId.isBlank()) return SpeciesIndex.NO_ID;
+        return snapshot.species().intern(anyId);
+    }
+
+    /**
+     * True once a full sync produced the complete discovery table: an UNKNOWN from {@link #knownStatus}
+     * is then final and the live Pokédex need not be asked.
+     */
+    public static boolean hasFullTable() {
+        return snapshot.isComplete();
+    }
+
+    /**
+     * True while the table comes from the server companion ({@link ServerDexReceiver}) instead of
+     * Cobblemon's client Pokédex.
+     */
+    public static boolean isServerAuthoritative() {
+        return serverAuthoritative;
+    }
+
     public static boolean isSpeciesCaught(String anyId) {
-        if (anyId == null || anyId.isBlank()) return false;
-        for (String normalized : normalizeIds(anyId)) {
-            if (CAUGHT_SPECIES.contains(normalized)) return true;
+        return knownStatus(anyId) == DiscoveryStatus.CAUGHT;
+    }
+
+    /**
+     * What the index already knows about a species, without touching Cobblemon or interning the spelling.
+     * UNKNOWN here only means "not recorded yet", unless {@link #hasFullTable()}.
+     */
+    public static DiscoveryStatus knownStatus(String anyId) {
+        if (anyId == null || anyId.isBlank()) return DiscoveryStatus.UNKNOWN;
+        DexSnapshot current = snapshot;
+        return current.status(current.species().lookup(anyId));
+    }
+
+    /**
+     * What the index knows about one form of a species: the form's own status once the Pokédex has reported
+     * on that form, otherwise the species' status.
+     */
+    public static DiscoveryStatus knownStatus(String anyId, String form) {
+        if (form == null || form.isBlank()) return knownStatus(anyId);
+        if (anyId == null || anyId.isBlank()) return DiscoveryStatus.UNKNOWN;
+        DexSnapshot current = snapshot;
+        int id = current.species().lookup(anyId);
+        if (id == SpeciesIndex.NO_ID) return DiscoveryStatus.UNKNOWN;
+        int formId = current.forms().find(id, form);
+        return formId == FormIndex.NO_ID ? current.status(id) : current.formStatus(formId);
+    }
+
+    /**
+     * Form-aware status: whether the species is caught but this particular form is not.
+     * Only answered from a complete table that holds form records for the species; otherwise {@code false},
+     * so a missing form never dims the icon on guesswork. An unknown form ({@code null}) is never missing.
+     */
+    public static boolean isFormMissing(String anyId, String form) {
+        if (anyId == null || anyId.isBlank() || form == null || form.isBlank()) return false;
+        DexSnapshot current = snapshot;
+        int id = current.species().lookup(anyId);
+        if (!current.isComplete() || !current.isCaught(id) || !current.forms().hasForms(id)) return false;
+        return !current.isFormCaught(current.forms().find(id, form));
+    }
+
+    /**
+     * @return form-only showdown ids of the forms of a species the Pokédex knows about but that are not
+     * caught yet, in first-seen order
+     */
+    public static List<String> missingForms(String anyId) {
+        if (anyId == null || anyId.isBlank()) return List.of();
+        DexSnapshot current = snapshot;
+        int id = current.species().lookup(anyId);
+        if (id == SpeciesIndex.NO_ID) return List.of();
+        FormIndex forms = current.forms();
+        List<String> missing = new ArrayList<>();
+        for (int formId : forms.formsOf(id)) {
+            if (!current.isFormCaught(formId)) missing.add(forms.key(formId));
         }
-        return false;
+        return missing;
     }
 
     public static boolean markSpeciesCaught(String anyId) {
-        if (anyId == null) return false;
-        boolean changed = false;
-        for (String normalized : normalizeIds(anyId)) {
-            if (CAUGHT_SPECIES.add(normalized)) {
-                changed = true;
-            }
+        return mark(anyId, null, true);
+    }
+
+    /**
+     * Marks a species caught along with one of its forms, e.g. from an owned Pokémon.
+     */
+    public static boolean markSpeciesCaught(String anyId, String form) {
+        return mark(anyId, form, true);
+    }
+
+    public static boolean markSpeciesSeen(String anyId) {
+        return mark(anyId, null, false);
+    }
+
+    private static boolean mark(String anyId, String form, boolean caught) {
+        DexSnapshot current = snapshot;
+        int id = current.species().intern(anyId);
+        if (id == SpeciesIndex.NO_ID) return false;
+        int formId = form != null ? current.forms().intern(id, form) : FormIndex.NO_ID;
+        if ((caught ? current.isCaught(id) : current.isSeen(id))
+                && (formId == FormIndex.NO_ID || current.isFormCaught(formId))) return false;
+
+        synchronized (WRITE_LOCK) {
+            if (snapshot.session() != current.session()) return false;
+            DexSnapshot.Builder next = snapshot.toBuilder();
+            boolean changed = caught ? next.markCaught(id) : next.markSeen(id);
+            if (formId != FormIndex.NO_ID) changed |= next.markFormCaught(formId);
+            if (!changed) return false;
+            snapshot = next.build();
+            PENDING.set(id);
         }
-        return changed;
+        scheduleRefresh();
+        return true;
     }
 
-    public static void onPokedexSync(Object clientPokedexManager) {
-        LOGGER.warn("pokedex sync received");
+    /**
+     * @return the canonical key of a {@link SpeciesIndex} id, or {@code null}
+     */
+    public static String speciesKey(int id) {
+        return snapshot.species().canonical(id);
+    }
 
-        if (clientPokedexManager == null) return;
+    /**
+     * @return number of species ids handed out so far
+     */
+    public static int speciesCount() {
+        return snapshot.species().size();
+    }
 
-        Map<?, ?> records = resolveSpeciesRecords(clientPokedexManager);
-        if (records == null || records.isEmpty()) return;
+    /**
+     * @return number of form ids handed out so far
+     */
+    public static int formCount() {
+        return snapshot.forms().size();
+    }
 
-        boolean changed = false;
+    /**
+     * @return how many sessions ended since the client started
+     */
+    public static int sessionCount() {
+        return snapshot.session();
+    }
 
-        for (Map.Entry<?, ?> entry : records.entrySet()) {
-            if (updateCaughtFromRecord(entry.getKey(), entry.getValue())) {
-                changed = true;
-            }
+    /**
+     * Forgets the previous session's caught/seen state (new server, new world).
+     */
+    public static void resetSession() {
+        provisional = false;
+        serverAuthoritative = false;
+        synchronized (WRITE_LOCK) {
+            DexSnapshot.Builder next = snapshot.toBuilder();
+            PENDING.or(next.clear());
+            if (!next.changed()) return;
+            snapshot = next.build();
         }
+        scheduleRefresh();
+    }
 
-        if (changed) {
-            scheduleRefresh();
+    /**
+     * Ends the client session (disconnect): forgets the state and starts over with empty species and form
+     * indices, so ids, spellings and forms interned for one server do not carry over to the next. Scans of
+     * the old session still running are dropped when they try to publish; the epoch keeps counting.
+     */
+    public static void endSession() {
+        provisional = false;
+        serverAuthoritative = false;
+        synchronized (WRITE_LOCK) {
+            // Old-session ids, meaningless in the new indices
+            PENDING.clear();
+            DexSnapshot.Builder next = snapshot.toBuilder();
+            next.nextSession();
+            snapshot = next.build();
         }
+    }
 
-
+    /**
+     * Seeds the state from a persisted snapshot. The result stays provisional until the next full sync,
+     * which replaces the caught and seen sets instead of merging into them.
+     */
+    public static void restore(BitSet caughtIds, BitSet seenIds) {
+        synchronized (WRITE_LOCK) {
+            DexSnapshot.Builder next = snapshot.toBuilder();
+            for (int id = caughtIds.nextSetBit(0); id >= 0; id = caughtIds.nextSetBit(id + 1)) {
+                if (next.markCaught(id)) PENDING.set(id);
+            }
+            for (int id = seenIds.nextSetBit(0); id >= 0; id = seenIds.nextSetBit(id + 1)) {
+                if (next.markSeen(id)) PENDING.set(id);
+            }
+            provisional = true;
+            if (!next.changed()) return;
+            snapshot = next.build();
+        }
+        scheduleRefresh();
     }
 
+    /**
+     * Makes the scanned table the whole state, dropping provisional bits the server did not confirm.
+     */
+    private static int publishAuthoritative(Collected scanned) {
+        synchronized (WRITE_LOCK) {
+            if (scanned.session != snapshot.session()) return 0;
+            provisional = false;
+            FormIndex forms = snapshot.forms();
+            DexSnapshot.Builder next = snapshot.toBuilder();
+            BitSet flipped = next.replace(scanned.caught, scanned.seen);
+            BitSet formsFlipped = next.replaceForms(scanned.formCaught, scanned.formSeen);
+            for (int formId = formsFlipped.nextSetBit(0); formId >= 0; formId = formsFlipped.nextSetBit(formId + 1)) {
+                int speciesId = forms.speciesOf(formId);
+                if (speciesId != SpeciesIndex.NO_ID) flipped.set(speciesId);
+            }
+            next.complete(true);
+            if (!next.changed()) return 0;
+            PENDING.or(flipped);
+            snapshot = next.build();
+            return flipped.cardinality();
+        }
+    }
 
-    public static void onRecordUpdate(Object clientPokedexManager, Object key, Object record) {
-        if (clientPokedexManager == null) return;
-        if (updateCaughtFromRecord(key, record)) {
-            scheduleRefresh();
+    /**
+     * Merges scanned caught/seen ids into the live state and publishes it as one snapshot.
+     *
+     * @param complete the ids come from a full, uninterrupted scan: the result is a complete table
+     * @return how many species changed status
+     */
+    private static int publish(Collected scanned, boolean complete) {
+        int changed = 0;
+        synchronized (WRITE_LOCK) {
+            if (scanned.session != snapshot.session()) return 0;
+            FormIndex forms = snapshot.forms();
+            DexSnapshot.Builder next = snapshot.toBuilder();
+            BitSet caughtIds = scanned.caught;
+            for (int id = caughtIds.nextSetBit(0); id >= 0; id = caughtIds.nextSetBit(id + 1)) {
+                if (next.markCaught(id)) {
+                    PENDING.set(id);
+                    changed++;
+                }
+            }
+            BitSet seenIds = scanned.seen;
+            for (int id = seenIds.nextSetBit(0); id >= 0; id = seenIds.nextSetBit(id + 1)) {
+                if (next.markSeen(id)) {
+                    PENDING.set(id);
+                    changed++;
+                }
+            }
+            // A form flip re-decorates its species even when the species status itself did not change
+            BitSet formCaught = scanned.formCaught;
+            for (int id = formCaught.nextSetBit(0); id >= 0; id = formCaught.nextSetBit(id + 1)) {
+                if (next.markFormCaught(id)) changed += pendSpeciesOf(forms, id);
+            }
+            BitSet formSeen = scanned.formSeen;
+            for (int id = formSeen.nextSetBit(0); id >= 0; id = formSeen.nextSetBit(id + 1)) {
+                if (next.markFormSeen(id)) changed += pendSpeciesOf(forms, id);
+            }
+            if (complete) next.complete(true);
+            if (next.changed()) snapshot = next.build();
         }
+        return changed;
     }
 
-    private static void scheduleRefresh() {
-        if (!NEEDS_REFRESH.compareAndSet(false, true)) return;
+    // Caller holds WRITE_LOCK
+    private static int pendSpeciesOf(FormIndex forms, int formId) {
+        int speciesId = forms.speciesOf(formId);
+        if (speciesId == SpeciesIndex.NO_ID || PENDING.get(speciesId)) return 0;
+        PENDING.set(speciesId);
+        return 1;
+    }
 
-        Minecraft mc = Minecraft.getInstance();
-        if (mc == null) return;
+    /**
+     * Full sync, for when Cobblemon installs a whole new Pokédex ({@code setClientPokedexData}).
+     * Copies the record references on the calling thread, which must be the one Cobblemon writes them from,
+     * and scans them there too; {@link PokedexIngestion} splits the two so only the copy stays on the client
+     * thread.
+     */
+    public static void onPokedexSync(Object clientPokedexManager) {
+        applyFull(captureFull(clientPokedexManager));
+    }
 
-        // décale le refresh d'un tick client
-        mc.execute(() -> {
-            // encore un tick plus tard pour être sûr
-            mc.execute(PokedexRefreshManager::refreshWorldNametags);
-        });
+    /**
+     * Incremental sync ({@code runIncremental} / {@code runAction}), read and applied on the calling thread;
+     * see {@link #captureIncremental}.
+     */
+    public static void onIncrementalSync(Object payload) {
+        applyIncremental(captureIncremental(payload));
     }
 
-    private static void refreshWorldNametags() {
-        LOGGER.debug("FORCED REFRESH THIS TICK");
-        if (!NEEDS_REFRESH.compareAndSet(true, false)) return;
-        Minecraft mc = Minecraft.getInstance();
-        if (mc == null || mc.level == null) return;
+    /**
+     * Thread Cobblemon writes its Pokédex from: copies the references to every record of a newly installed
+     * Pokédex, see {@link Capture}.
+     *
+     * @return the copy, or {@code null} when there is nothing to scan
+     */
+    public static Capture captureFull(Object clientPokedexManager) {
+        if (clientPokedexManager == null || serverAuthoritative) return null;
+        CobblemonAdapter adapter = CobblemonAdapters.get();
+        Map<?, ?> records = adapter.speciesRecords(clientPokedexManager);
+        if (records == null) return null;
+        return Capture.of(adapter, records, null, false);
+    }
 
-        int count = 0;
-        for (var entity : mc.level.entitiesForRendering()) {
-            if (entity == null) continue;
-            if (!entity.getClass().getName().equals(POKEMON_ENTITY_CLASS)) continue;
+    /**
+     * Thread Cobblemon writes its Pokédex from: copies the records an incremental payload names, as Cobblemon
+     * merged them into the live Pokédex. A payload without a record map falls back to a copy of the whole
+     * live Pokédex, diffed against the snapshot when it is applied.
+     *
+     * @return the copy, or {@code null} when there is nothing to scan
+     */
+    static Capture captureIncremental(Object payload) {
+        if (payload == null || serverAuthoritative) return null;
+        CobblemonAdapter adapter = CobblemonAdapters.get();
+        Map<?, ?> changed = adapter.speciesRecords(payload);
+        Map<?, ?> live = adapter.speciesRecords(adapter.clientPokedexManager());
+        if (live == changed) live = null;
+
+        if (changed != null && !changed.isEmpty()) return Capture.of(adapter, changed, live, false);
+        if (live != null && !live.isEmpty()) return Capture.of(adapter, live, null, true);
+        return null;
+    }
 
-            boolean visible = entity.isCustomNameVisible();
-            entity.setCustomNameVisible(!visible);
-            entity.setCustomNameVisible(visible);
-            count++;
+    /**
+     * Any thread: scans a {@link #captureFull} copy and publishes everything found in one step, so readers see
+     * either the old state or the new one. Large copies are split across the common ForkJoin pool.
+     * <p>
+     * The scan yields the full CAUGHT/SEEN/UNKNOWN table, after which the render path never asks Cobblemon
+     * again. While the state is still {@linkplain #restore provisional}, it also reconciles it: species the
+     * persisted snapshot had but the server does not are dropped.
+     */
+    static void applyFull(Capture capture) {
+        LOGGER.debug("pokedex sync received");
+        if (capture == null || serverAuthoritative) return;
+
+        PokedexSyncEvent event = new PokedexSyncEvent();
+        event.begin();
+        CatchIndicatorStats.sync(true);
+
+        int size = capture.size;
+        Collected scanned = size >= PARALLEL_SCAN_THRESHOLD
+                ? ForkJoinPool.commonPool().invoke(new ScanTask(capture, 0, size))
+                : scan(capture, null);
+        int changed = provisional
+                ? publishAuthoritative(scanned)
+                : publish(scanned, true);
+        if (changed > 0) {
+            scheduleRefresh();
         }
-        LOGGER.debug("refresh executed: {} entities", count);
+        commit(event, "full", size, changed);
     }
 
     /**
-     * Cobblemon 1.7 moved client Pokédex to instanced player data.
-     * We treat a species as CAUGHT if either the species record or any form record has knowledge == CAUGHT.
+     * Any thread: scans a {@link #captureIncremental} copy and merges what it found. A copy of the whole live
+     * Pokédex skips every species already known as caught.
      */
-    private static boolean updateCaughtFromRecord(Object key, Object record) {
-        if (key == null && record == null) return false;
-        if (record == null) return false;
+    static void applyIncremental(Capture capture) {
+        if (capture == null || serverAuthoritative) return;
 
-        if (!isRecordCaught(record)) return false;
+        PokedexSyncEvent event = new PokedexSyncEvent();
+        event.begin();
+        CatchIndicatorStats.sync(false);
 
-        boolean changed = false;
-        if (key != null && markSpeciesCaught(key.toString())) {
-            LOGGER.debug("caught status changed for {}", key);
-            changed = true;
+        Collected found = scan(capture, capture.diff ? snapshot : null);
+        int published = publish(found, false);
+        if (published > 0) {
+            scheduleRefresh();
         }
+        commit(event, "incremental", capture.size, published);
+    }
 
-        Object speciesId = invokeFirst(record, "getId", "id", "getSpeciesId", "speciesId");
-        if (speciesId != null && markSpeciesCaught(speciesId.toString())) {
-            LOGGER.debug("caught status changed for {}", speciesId);
-            changed = true;
+    /**
+     * @param skipCaught when non-null, species already caught in this snapshot are not evaluated again;
+     *                   their forms then only update through payloads that name them
+     */
+    private static Collected scan(Capture capture, DexSnapshot skipCaught) {
+        Collected into = new Collected(capture.base);
+        for (int i = 0; i < capture.size; i++) {
+            Object key = capture.keys[i];
+            if (skipCaught != null && key != null && skipCaught.isCaught(skipCaught.species().find(key.toString()))) continue;
+            collect(capture.adapter, key, capture.records[i], into);
         }
-
-        return changed;
+        return into;
     }
 
-    private static boolean isRecordCaught(Object speciesDexRecord) {
-        if (speciesDexRecord == null) return false;
-
-        // Fast path: SpeciesDexRecord.getKnowledge() == CAUGHT
-        Object knowledge = invokeFirst(speciesDexRecord, "getKnowledge", "getEntryProgress", "getProgress", "knowledge");
-        if (isProgressCaught(knowledge)) return true;
-
-        // Fallback: hasAtLeast(CAUGHT)
-        Object caughtEnum = resolvePokedexProgressCaught();
-        if (caughtEnum != null) {
-            Object hasAtLeast = invokeFirstWithArgs(speciesDexRecord, new Object[]{ caughtEnum }, "hasAtLeast");
-            if (hasAtLeast instanceof Boolean b && b) return true;
+    /**
+     * The records a scan reads, as Cobblemon's species map held them when the sync arrived.
+     * <p>
+     * Cobblemon keeps its Pokédex in plain {@code HashMap}s, mutated on the client thread as syncs arrive.
+     * Walking the species map from another thread can miss entries or read half-resized tables without any
+     * exception, so the client thread copies its keys and record references, and nothing more: a flat copy,
+     * with no adapter call. The records themselves are read by the scan threads. Cobblemon only changes a
+     * record through a later sync, which queues its own capture behind this one and re-reads the record, so a
+     * scan that reads a record mid-change is superseded before anything else is published.
+     */
+    public static final class Capture {
+        // Snapshot current when the records were copied: their ids go into its session's indices, and a scan
+        // finishing after that session ended is dropped
+        final DexSnapshot base = PokedexRefreshManager.snapshot;
+        final CobblemonAdapter adapter;
+        // Parallel, the first size slots are used
+        final Object[] keys;
+        final Object[] records;
+        final int size;
+        // A whole live Pokédex standing in for a payload without records
+        final boolean diff;
+
+        private Capture(CobblemonAdapter adapter, Object[] keys, Object[] records, int size, boolean diff) {
+            this.adapter = adapter;
+            this.keys = keys;
+            this.records = records;
+            this.size = size;
+            this.diff = diff;
         }
 
-        // Deep fallback: scan formRecords map values and check each FormDexRecord.getKnowledge()
-        Object formRecordsObj = readFieldIfExists(speciesDexRecord, "formRecords");
-        if (formRecordsObj instanceof Map<?, ?> map && !map.isEmpty()) {
-            for (Object v : map.values()) {
-                if (v == null) continue;
-                Object fk = invokeFirst(v, "getKnowledge", "knowledge");
-                if (isProgressCaught(fk)) return true;
+        /**
+         * @param authoritative when non-null, records are re-read from here by key (the copied map only names them)
+         */
+        static Capture of(CobblemonAdapter adapter, Map<?, ?> records, Map<?, ?> authoritative, boolean diff) {
+            Object[] keys = new Object[records.size()];
+            Object[] values = new Object[keys.length];
+            int n = 0;
+            for (Map.Entry<?, ?> entry : records.entrySet()) {
+                Object key = entry.getKey();
+                Object record = authoritative != null ? authoritative.get(key) : null;
+                if (record == null) record = entry.getValue();
+                if (record == null) continue;
+                if (n == keys.length) {
+                    keys = Arrays.copyOf(keys, n + 16);
+                    values = Arrays.copyOf(values, n + 16);
+                }
+                keys[n] = key;
+                values[n++] = record;
             }
+            return new Capture(adapter, keys, values, n, diff);
         }
-        return false;
     }
 
-    private static boolean isProgressCaught(Object progress) {
-        if (progress == null) return false;
-        String s = progress.toString();
-        return s != null && s.equalsIgnoreCase("CAUGHT");
-    }
+    /**
+     * Species and form ids found by a scan, before they are published.
+     */
+    private static final class Collected {
+        // Ids below were interned in the indices of this snapshot's session
+        final DexSnapshot base;
+        final int session;
+        final BitSet caught = new BitSet();
+        final BitSet seen = new BitSet();
+        final BitSet formCaught = new BitSet();
+        final BitSet formSeen = new BitSet();
+
+        Collected(DexSnapshot base) {
+            this.base = base;
+            this.session = base.session();
+        }
 
-    private static Object resolvePokedexProgressCaught() {
-        try {
-            Class<?> c = Class.forName("com.cobblemon.mod.common.api.pokedex.PokedexEntryProgress");
-            Field f = c.getDeclaredField("CAUGHT");
-            f.setAccessible(true);
-            return f.get(null);
-        } catch (Throwable ignored) {
-            return null;
+        void or(Collected other) {
+            caught.or(other.caught);
+            seen.or(other.seen);
+            formCaught.or(other.formCaught);
+            formSeen.or(other.formSeen);
         }
     }
 
-    private static Set<String> normalizeIds(String raw) {
-        Set<String> ids = new HashSet<>();
-        String trimmed = raw.trim();
-        if (trimmed.isEmpty()) return ids;
+    private static final class ScanTask extends RecursiveTask<Collected> {
 
-        ids.add(trimmed);
+        private static final int LEAF_SIZE = 256;
 
-        String namespaced = trimmed.contains(":") ? trimmed : "cobblemon:" + trimmed;
-        ids.add(namespaced);
+        private final Capture capture;
+        private final int from;
+        private final int to;
 
-        try {
-            ResourceLocation rl = ResourceLocation.parse(namespaced);
-            ids.add(rl.toString());
-            ids.add(rl.getPath());
-        } catch (Throwable ignored) {
+        ScanTask(Capture capture, int from, int to) {
+            this.capture = capture;
+            this.from = from;
+            this.to = to;
         }
 
-        return ids;
+        @Override
+        protected Collected compute() {
+            if (to - from <= LEAF_SIZE) {
+                Collected found = new Collected(capture.base);
+                for (int i = from; i < to; i++) {
+                    collect(capture.adapter, capture.keys[i], capture.records[i], found);
+                }
+                return found;
+            }
+            int mid = (from + to) >>> 1;
+            ScanTask left = new ScanTask(capture, from, mid);
+            left.fork();
+            Collected right = new ScanTask(capture, mid, to).compute();
+            Collected found = left.join();
+            found.or(right);
+            return found;
+        }
     }
 
-    private static Map<?, ?> resolveSpeciesRecords(Object clientPokedexManager) {
-        Object recordsObj = invokeFirst(clientPokedexManager,
-                "getSpeciesRecords", "speciesRecords", "getRecords", "records");
-        if (recordsObj == null) {
-            recordsObj = readFieldIfExists(clientPokedexManager, "speciesRecords", "records");
-        }
-        if (recordsObj instanceof Map<?, ?> records) {
-            return records;
+    public static void onRecordUpdate(Object clientPokedexManager, Object key, Object record) {
+        if (clientPokedexManager == null) return;
+        PokedexSyncEvent event = new PokedexSyncEvent();
+        event.begin();
+        CatchIndicatorStats.sync(false);
+
+        Collected found = new Collected(snapshot);
+        if (record != null) collect(CobblemonAdapters.get(), key, record, found);
+        int changed = publish(found, false);
+        if (changed > 0) {
+            scheduleRefresh();
         }
-        return null;
+        commit(event, "record", 1, changed);
     }
 
-    private static Object readFieldIfExists(Object target, String... fieldNames) {
-        for (String fieldName : fieldNames) {
-            try {
-                Field f = target.getClass().getDeclaredField(fieldName);
-                f.setAccessible(true);
-                Object value = f.get(target);
-                if (value != null) return value;
-            } catch (Throwable ignored) {
-            }
+    /**
+     * The whole table as the server companion knows it; replaces the state like an authoritative full sync.
+     */
+    static void onServerDex(BitSet caughtIds, BitSet seenIds, BitSet formCaughtIds, BitSet formSeenIds) {
+        PokedexSyncEvent event = new PokedexSyncEvent();
+        event.begin();
+        CatchIndicatorStats.sync(true);
+
+        serverAuthoritative = true;
+        Collected scanned = new Collected(snapshot);
+        scanned.caught.or(caughtIds);
+        scanned.seen.or(seenIds);
+        scanned.formCaught.or(formCaughtIds);
+        scanned.formSeen.or(formSeenIds);
+        int changed = publishAuthoritative(scanned);
+        if (changed > 0) {
+            scheduleRefresh();
         }
-        return null;
+        commit(event, "server", caughtIds.cardinality() + seenIds.cardinality(), changed);
     }
 
-    private static Object invokeFirst(Object target, String... names) {
-        if (target == null) return null;
-        for (String n : names) {
-            try {
-                Method m;
-                try {
-                    m = target.getClass().getDeclaredMethod(n);
-                } catch (NoSuchMethodException e) {
-                    m = target.getClass().getMethod(n);
-                }
-                m.setAccessible(true);
-                return m.invoke(target);
-            } catch (Throwable ignored) {
-            }
+    /**
+     * The server companion stopped being usable; the next Cobblemon sync rebuilds the table client-side.
+     */
+    static void leaveServerAuthority() {
+        serverAuthoritative = false;
+    }
+
+    /**
+     * @return the {@link FormIndex} id of a form of a species, interning it on first sight
+     */
+    static int formId(int speciesId, String form) {
+        return snapshot.forms().intern(speciesId, form);
+    }
+
+    private static void commit(PokedexSyncEvent event, String kind, int recordsScanned, int speciesChanged) {
+        if (!event.shouldCommit()) return;
+        event.kind = kind;
+        event.recordsScanned = recordsScanned;
+        event.speciesChanged = speciesChanged;
+        event.commit();
+    }
+
+    private static void scheduleRefresh() {
+        NametagRefreshScheduler.request();
+    }
+
+    /**
+     * Hands the species that changed status since the last call to the refresh scheduler.
+     *
+     * @return the changed {@link SpeciesIndex} ids, possibly empty
+     */
+    static BitSet drainChanged() {
+        synchronized (WRITE_LOCK) {
+            BitSet changed = (BitSet) PENDING.clone();
+            PENDING.clear();
+            return changed;
         }
-        return null;
     }
 
-    private static Object invokeFirstWithArgs(Object target, Object[] args, String... names) {
-        if (target == null) return null;
-        for (String n : names) {
+    /**
+     * Files one record, and each of its form records, under CAUGHT or SEEN, by its map key and by the id it
+     * reports about itself. The species takes the best knowledge among its own and its forms'.
+     */
+    private static void collect(CobblemonAdapter adapter, Object key, Object record, Collected into) {
+        SpeciesIndex species = into.base.species();
+        int keyId = key != null ? species.intern(key.toString()) : SpeciesIndex.NO_ID;
+        Object reported = adapter.recordSpeciesId(record);
+        int reportedId = reported != null ? species.intern(reported.toString()) : SpeciesIndex.NO_ID;
+        int owner = keyId != SpeciesIndex.NO_ID ? keyId : reportedId;
+
+        DiscoveryStatus status = adapter.recordKnowledge(record);
+        Map<?, ?> forms = owner != SpeciesIndex.NO_ID ? adapter.formRecords(record) : null;
+        if (forms != null && !forms.isEmpty()) {
+            FormIndex formIndex = into.base.forms();
             try {
-                for (Method m : target.getClass().getMethods()) {
-                    if (m.getName().equals(n) && m.getParameterCount() == args.length) {
-                        m.setAccessible(true);
-                        return m.invoke(target, args);
-                    }
-                }
-                for (Method m : target.getClass().getDeclaredMethods()) {
-                    if (m.getName().equals(n) && m.getParameterCount() == args.length) {
-                        m.setAccessible(true);
-                        return m.invoke(target, args);
+                for (Map.Entry<?, ?> form : forms.entrySet()) {
+                    DiscoveryStatus formStatus = adapter.formStatus(form.getValue());
+                    if (formStatus == DiscoveryStatus.UNKNOWN) continue;
+                    int formId = formIndex.intern(owner, String.valueOf(form.getKey()));
+                    if (formId != FormIndex.NO_ID) {
+                        (formStatus == DiscoveryStatus.CAUGHT ? into.formCaught : into.formSeen).set(formId);
                     }
+                    if (formStatus == DiscoveryStatus.CAUGHT || status == DiscoveryStatus.UNKNOWN) status = formStatus;
                 }
-            } catch (Throwable ignored) {
+            } catch (ConcurrentModificationException e) {
+                // Cobblemon is adding a form to this record right now; the sync doing it re-reads the record
             }
         }
-        return null;
+        if (status == DiscoveryStatus.UNKNOWN) return;
+
+        BitSet target = status == DiscoveryStatus.CAUGHT ? into.caught : into.seen;
+        if (keyId != SpeciesIndex.NO_ID) target.set(keyId);
+        if (reportedId != SpeciesIndex.NO_ID) target.set(reportedId);
     }
 }
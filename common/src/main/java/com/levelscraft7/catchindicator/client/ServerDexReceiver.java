@@ -0,0 +1,119 @@
+package com.levelscraft7.catchindicator.client;
+
+import com.levelscraft7.catchindicator.network.DexSyncPayload;
+import dev.architectury.networking.NetworkManager;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.BitSet;
+
+/**
+ * Client side of the dex channel: mirrors the state the server companion sends and publishes it as the
+ * authoritative table, see {@link PokedexRefreshManager#onServerDex}.
+ * <p>
+ * The server's ids are translated once, when their key arrives, into {@link SpeciesIndex} and
+ * {@link FormIndex} ids. A payload that does not continue the dictionary where the last one left off means
+ * the two sides disagree: the channel is then ignored for the rest of the session and the client falls
+ * back to reading Cobblemon's client Pokédex.
+ */
+public final class ServerDexReceiver {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("catchindicator");
+
+    // Client thread only. Server id -> species id, and form id or NO_ID for species keys
+    private static final IntArrayList SPECIES_IDS = new IntArrayList();
+    private static final IntArrayList FORM_IDS = new IntArrayList();
+    // Mirrored server state, by server id
+    private static final BitSet CAUGHT = new BitSet();
+    private static final BitSet SEEN = new BitSet();
+    // A full payload was applied; an empty Pokédex leaves the dictionary empty, so this is tracked apart
+    private static boolean fullApplied;
+    private static boolean desynced;
+
+    private ServerDexReceiver() {
+    }
+
+    public static void register() {
+        NetworkManager.registerReceiver(NetworkManager.s2c(), DexSyncPayload.TYPE, DexSyncPayload.STREAM_CODEC,
+                (payload, context) -> context.queue(() -> apply(payload)));
+    }
+
+    /**
+     * Client thread, on join: the session reset may have wiped a table the server already sent, so the
+     * mirrored state is published again.
+     */
+    public static void onJoin() {
+        if (!desynced && fullApplied) publishMirror();
+    }
+
+    /**
+     * Client thread, on disconnect.
+     */
+    public static void reset() {
+        SPECIES_IDS.clear();
+        FORM_IDS.clear();
+        CAUGHT.clear();
+        SEEN.clear();
+        fullApplied = false;
+        desynced = false;
+    }
+
+    /**
+     * @return whether the channel is still in step with the server
+     */
+    static boolean isInStep() {
+        return !desynced;
+    }
+
+    /**
+     * Client thread: applies one payload; the first of a session must be the full one, every later one a delta.
+     */
+    static void apply(DexSyncPayload payload) {
+        if (desynced) return;
+        if (payload.firstNewId() != SPECIES_IDS.size() || payload.full() == fullApplied) {
+            desynced = true;
+            LOGGER.warn("dex channel out of step with the server, using the client Pokédex for this session");
+            PokedexRefreshManager.leaveServerAuthority();
+            return;
+        }
+        fullApplied = true;
+
+        for (String key : payload.newKeys()) {
+            int separator = key.indexOf(DexSyncPayload.FORM_SEPARATOR);
+            int speciesId = PokedexRefreshManager.speciesId(separator < 0 ? key : key.substring(0, separator));
+            SPECIES_IDS.add(speciesId);
+            FORM_IDS.add(separator < 0 ? FormIndex.NO_ID : PokedexRefreshManager.formId(speciesId, key.substring(separator + 1)));
+        }
+
+        int[] ids = payload.ids();
+        byte[] flags = payload.flags();
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] >= SPECIES_IDS.size()) continue;
+            CAUGHT.set(ids[i], (flags[i] & DexSyncPayload.FLAG_CAUGHT) != 0);
+            SEEN.set(ids[i], (flags[i] & DexSyncPayload.FLAG_SEEN) != 0);
+        }
+        publishMirror();
+    }
+
+    private static void publishMirror() {
+        BitSet caught = new BitSet();
+        BitSet seen = new BitSet();
+        BitSet formCaught = new BitSet();
+        BitSet formSeen = new BitSet();
+        translate(CAUGHT, caught, formCaught);
+        translate(SEEN, seen, formSeen);
+        PokedexRefreshManager.onServerDex(caught, seen, formCaught, formSeen);
+    }
+
+    private static void translate(BitSet serverIds, BitSet species, BitSet forms) {
+        for (int id = serverIds.nextSetBit(0); id >= 0; id = serverIds.nextSetBit(id + 1)) {
+            int formId = FORM_IDS.getInt(id);
+            if (formId != FormIndex.NO_ID) {
+                forms.set(formId);
+            } else if (SPECIES_IDS.getInt(id) != SpeciesIndex.NO_ID) {
+                species.set(SPECIES_IDS.getInt(id));
+            }
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.levelscraft7.catchindicator.client;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * Positions of tracked values in a hash of 16x16 block columns (the XZ footprint of a chunk), each tagged
+ * with a {@link SpeciesIndex} id.
+ * <p>
+ * Moves only touch the buckets when a value crosses into another column. {@link #nearest} walks columns
+ * in rings around the query point and stops as soon as no unvisited column can hold anything closer than
+ * what it already has, so a query costs about the columns near the player, not the number of values
+ * tracked. Not thread-safe.
+ */
+public final class SpatialHash<T> {
+
+    static final int CELL_SHIFT = 4;
+    static final int CELL_SIZE = 1 << CELL_SHIFT;
+
+    private final Long2ObjectOpenHashMap<ArrayList<Node<T>>> cells = new Long2ObjectOpenHashMap<>();
+    private final Map<T, Node<T>> nodes = new HashMap<>();
+    private int cellsVisited;
+
+    private static final class Node<T> {
+        final T value;
+        double x, y, z;
+        long cell;
+        int species;
+
+        Node(T value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * Adds {@code value}, or moves and re-tags it if it is already there.
+     */
+    public void put(T value, double x, double y, double z, int species) {
+        Node<T> node = nodes.get(value);
+        if (node == null) {
+            node = new Node<>(value);
+            node.cell = cellOf(x, z);
+            nodes.put(value, node);
+            bucket(node.cell).add(node);
+        }
+        node.species = species;
+        place(node, x, y, z);
+    }
+
+    /**
+     * @return false when {@code value} is not tracked
+     */
+    public boolean move(T value, double x, double y, double z) {
+        Node<T> node = nodes.get(value);
+        if (node == null) return false;
+        place(node, x, y, z);
+        return true;
+    }
+
+    public void setSpecies(T value, int species) {
+        Node<T> node = nodes.get(value);
+        if (node != null) node.species = species;
+    }
+
+    public void remove(T value) {
+        Node<T> node = nodes.remove(value);
+        if (node != null) unbucket(node);
+    }
+
+    public boolean contains(T value) {
+        return nodes.containsKey(value);
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public int cellCount() {
+        return cells.size();
+    }
+
+    /**
+     * @return columns looked at by the last {@link #nearest} call
+     */
+    public int cellsVisited() {
+        return cellsVisited;
+    }
+
+    public void clear() {
+        nodes.clear();
+        cells.clear();
+    }
+
+    /**
+     * Collects up to {@code limit} values within {@code radius} of a point whose species passes
+     * {@code species}, nearest first.
+     *
+     * @param distinct keep only the nearest value of each species
+     * @param out      receives the values, nearest first; cleared first
+     */
+    public void nearest(double x, double y, double z, double radius, int limit, IntPredicate species,
+                        boolean distinct, List<T> out) {
+        out.clear();
+        cellsVisited = 0;
+        if (limit <= 0 || radius <= 0 || nodes.isEmpty()) return;
+
+        Best<T> best = new Best<>(limit, distinct);
+        double radiusSqr = radius * radius;
+        int cx = (int) Math.floor(x) >> CELL_SHIFT;
+        int cz = (int) Math.floor(z) >> CELL_SHIFT;
+        int maxRing = (int) Math.ceil(radius / CELL_SIZE);
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int dx = -ring; dx <= ring; dx++) {
+                boolean edge = dx == -ring || dx == ring;
+                for (int dz = -ring; dz <= ring; dz += edge ? 1 : 2 * ring) {
+                    scan(cells.get(pack(cx + dx, cz + dz)), x, y, z, radiusSqr, species, best);
+                }
+            }
+            // Every column of the next ring is at least `ring` whole columns away horizontally
+            double reach = (double) ring * CELL_SIZE;
+            if (best.isFull() && best.worst() <= reach * reach) break;
+        }
+        best.drainTo(out);
+    }
+
+    private void scan(List<Node<T>> bucket, double x, double y, double z, double radiusSqr, IntPredicate species,
+                      Best<T> best) {
+        cellsVisited++;
+        if (bucket == null) return;
+        for (int i = 0, n = bucket.size(); i < n; i++) {
+            Node<T> node = bucket.get(i);
+            double dx = node.x - x, dy = node.y - y, dz = node.z - z;
+            double distanceSqr = dx * dx + dy * dy + dz * dz;
+            if (distanceSqr > radiusSqr || !species.test(node.species)) continue;
+            best.offer(node.value, node.species, distanceSqr);
+        }
+    }
+
+    private void place(Node<T> node, double x, double y, double z) {
+        node.x = x;
+        node.y = y;
+        node.z = z;
+        long cell = cellOf(x, z);
+        if (cell == node.cell) return;
+        unbucket(node);
+        node.cell = cell;
+        bucket(cell).add(node);
+    }
+
+    private ArrayList<Node<T>> bucket(long cell) {
+        ArrayList<Node<T>> bucket = cells.get(cell);
+        if (bucket == null) {
+            bucket = new ArrayList<>(4);
+            cells.put(cell, bucket);
+        }
+        return bucket;
+    }
+
+    private void unbucket(Node<T> node) {
+        ArrayList<Node<T>> bucket = cells.get(node.cell);
+        if (bucket == null) return;
+        bucket.remove(node);
+        if (bucket.isEmpty()) cells.remove(node.cell);
+    }
+
+    private static long cellOf(double x, double z) {
+        return pack((int) Math.floor(x) >> CELL_SHIFT, (int) Math.floor(z) >> CELL_SHIFT);
+    }
+
+    private static long pack(int cx, int cz) {
+        return (long) cx << 32 | (cz & 0xFFFFFFFFL);
+    }
+
+    /**
+     * The {@code limit} nearest offers so far, kept sorted by distance.
+     */
+    private static final class Best<T> {
+        private final Object[] values;
+        private final int[] species;
+        private final double[] distances;
+        private final boolean distinct;
+        private int size;
+
+        Best(int limit, boolean distinct) {
+            values = new Object[limit];
+            species = new int[limit];
+            distances = new double[limit];
+            this.distinct = distinct;
+        }
+
+        boolean isFull() {
+            return size == values.length;
+        }
+
+        double worst() {
+            return distances[size - 1];
+        }
+
+        void offer(T value, int speciesId, double distanceSqr) {
+            if (distinct) {
+                for (int i = 0; i < size; i++) {
+                    if (species[i] != speciesId) continue;
+                    if (distances[i] <= distanceSqr) return;
+                    removeAt(i);
+                    break;
+                }
+            }
+            if (isFull() && distanceSqr >= worst()) return;
+
+            int at = Math.min(size, values.length - 1);
+            while (at > 0 && distances[at - 1] > distanceSqr) {
+                values[at] = values[at - 1];
+                species[at] = species[at - 1];
+                distances[at] = distances[at - 1];
+                at--;
+            }
+            values[at] = value;
+            species[at] = speciesId;
+            distances[at] = distanceSqr;
+            if (size < values.length) size++;
+        }
+
+        private void removeAt(int index) {
+            int tail = size - index - 1;
+            System.arraycopy(values, index + 1, values, index, tail);
+            System.arraycopy(species, index + 1, species, index, tail);
+            System.arraycopy(distances, index + 1, distances, index, tail);
+            size--;
+            values[size] = null;
+        }
+
+        @SuppressWarnings("unchecked")
+        void drainTo(List<T> out) {
+            for (int i = 0; i < size; i++) {
+                out.add((T) values[i]);
+            }
+        }
+    }
+}
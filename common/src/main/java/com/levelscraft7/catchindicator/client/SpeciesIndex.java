@@ -0,0 +1,132 @@
+package com.levelscraft7.catchindicator.client;
+
+import com.levelscraft7.catchindicator.core.SpeciesAliases;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns species ids to dense ints so per-species state can live in bitsets.
+ * <p>
+ * Every spelling a species has been seen under ({@code bulbasaur}, {@code cobblemon:bulbasaur}, a raw
+ * record key...) maps to the same id, keyed by the canonical {@code namespace:path} form taken from
+ * {@link SpeciesAliases} when the species is registered. A spelling is normalized once, the first time it
+ * is interned; after that {@link #intern}, {@link #lookup} and {@link #find} are a single hash probe with no
+ * allocation.
+ * <p>
+ * Bounded: at most {@link #MAX_SPECIES} ids and about {@link #MAX_SPELLINGS} remembered spellings. Past the
+ * latter a new spelling still resolves, it is just normalized again on every call. A fresh index is used
+ * per session, see {@link PokedexRefreshManager#endSession()}.
+ * <p>
+ * Thread-safe: lookups of known spellings are lock-free, only first sightings take the intern lock.
+ */
+public final class SpeciesIndex {
+
+    public static final int NO_ID = -1;
+    // Same bound as the entries of a persisted snapshot
+    public static final int MAX_SPECIES = 1 << 16;
+    public static final int MAX_SPELLINGS = 1 << 17;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    // Grown geometrically under the intern lock; slots below size are written before size is raised
+    private volatile String[] canonical = new String[16];
+    private volatile int size;
+
+    /**
+     * @return the id of an already interned spelling, or {@link #NO_ID}
+     */
+    public int find(String anyId) {
+        if (anyId == null) return NO_ID;
+        Integer id = ids.get(anyId);
+        return id != null ? id : NO_ID;
+    }
+
+    /**
+     * @return the id for any spelling of a species, interning it on first sight, or {@link #NO_ID} for blank
+     * input and for new species once the index is full
+     */
+    public int intern(String anyId) {
+        int id = find(anyId);
+        if (id != NO_ID || anyId == null) return id;
+
+        String trimmed = anyId.trim();
+        if (trimmed.isEmpty()) return NO_ID;
+
+        String namespaced = namespaced(trimmed);
+        ResourceLocation rl = resolve(trimmed, namespaced);
+        String key = rl != null ? rl.toString() : namespaced;
+
+        synchronized (this) {
+            id = find(key);
+            if (id == NO_ID) {
+                id = size;
+                if (id >= MAX_SPECIES) return NO_ID;
+                String[] current = canonical;
+                if (id == current.length) {
+                    current = Arrays.copyOf(current, Math.min(MAX_SPECIES, id + (id >> 1)));
+                    canonical = current;
+                }
+                current[id] = key;
+                size = id + 1;
+                ids.put(key, id);
+                ids.putIfAbsent(namespaced, id);
+                if (rl != null) ids.putIfAbsent(rl.getPath(), id);
+            }
+            if (ids.size() < MAX_SPELLINGS) {
+                ids.putIfAbsent(trimmed, id);
+                ids.put(anyId, id);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Like {@link #intern} without interning: any spelling of a species that is already known resolves, a
+     * species that never was answers {@link #NO_ID} and gets no id. For lookups on behalf of callers whose
+     * input is not known to be a species (the API, the render path).
+     */
+    public int lookup(String anyId) {
+        int id = find(anyId);
+        if (id != NO_ID || anyId == null) return id;
+
+        String trimmed = anyId.trim();
+        if (trimmed.isEmpty()) return NO_ID;
+        id = find(trimmed);
+        if (id != NO_ID) return id;
+
+        String namespaced = namespaced(trimmed);
+        ResourceLocation rl = resolve(trimmed, namespaced);
+        id = find(rl != null ? rl.toString() : namespaced);
+        // A new spelling of a known species is remembered like intern does; unknown species leave no trace
+        if (id != NO_ID && ids.size() < MAX_SPELLINGS) ids.putIfAbsent(anyId, id);
+        return id;
+    }
+
+    private static String namespaced(String trimmed) {
+        return trimmed.contains(":") ? trimmed : "cobblemon:" + trimmed;
+    }
+
+    // Prefer the registry's own spelling so showdown ids and identifiers share one id
+    private static ResourceLocation resolve(String trimmed, String namespaced) {
+        ResourceLocation rl = SpeciesAliases.resolve(trimmed);
+        return rl != null ? rl : ResourceLocation.tryParse(namespaced);
+    }
+
+    /**
+     * @return the canonical {@code namespace:path} key of an id
+     */
+    public String canonical(int id) {
+        // size first: every slot below it was written before it was raised
+        int known = size;
+        return id >= 0 && id < known ? canonical[id] : null;
+    }
+
+    /**
+     * @return number of distinct species interned (ids are {@code 0 .. size() - 1})
+     */
+    public int size() {
+        return size;
+    }
+}
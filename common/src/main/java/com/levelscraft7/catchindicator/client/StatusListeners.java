@@ -0,0 +1,54 @@
+package com.levelscraft7.catchindicator.client;
+
+import com.levelscraft7.catchindicator.api.StatusChange;
+import com.levelscraft7.catchindicator.api.StatusListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Listeners registered through {@link com.levelscraft7.catchindicator.api.CatchIndicatorApi}.
+ * <p>
+ * Fed by {@link NametagRefreshScheduler} with the same coalesced change set the nametags are refreshed from,
+ * so listeners get one call per batch of syncs, on the client thread. A listener that throws is logged and
+ * skipped; it stays registered.
+ */
+public final class StatusListeners {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("catchindicator");
+    private static final List<StatusListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private StatusListeners() {
+    }
+
+    public static void add(StatusListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    public static void remove(StatusListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    static void dispatch(BitSet changed, long epoch) {
+        if (LISTENERS.isEmpty() || changed.isEmpty()) return;
+
+        List<String> species = new ArrayList<>(changed.cardinality());
+        for (int id = changed.nextSetBit(0); id >= 0; id = changed.nextSetBit(id + 1)) {
+            String key = PokedexRefreshManager.speciesKey(id);
+            if (key != null) species.add(key);
+        }
+        StatusChange change = new StatusChange(epoch, Collections.unmodifiableList(species));
+        for (StatusListener listener : LISTENERS) {
+            try {
+                listener.onStatusChanged(change);
+            } catch (Throwable t) {
+                LOGGER.warn("status listener {} failed", listener.getClass().getName(), t);
+            }
+        }
+    }
+}
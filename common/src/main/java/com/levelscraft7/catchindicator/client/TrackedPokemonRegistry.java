@@ -0,0 +1,159 @@
+package com.levelscraft7.catchindicator.client;
+
+import com.levelscraft7.catchindicator.core.adapter.CobblemonAdapter;
+import com.levelscraft7.catchindicator.core.adapter.CobblemonAdapters;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+/**
+ * Client-side registry of the Pokémon entities currently tracked by the client level, bucketed by
+ * {@link SpeciesIndex} id.
+ * <p>
+ * Maintained from the level's entity tracking callbacks, and re-indexed by {@link NametagDecorator}
+ * whenever it resolves a species (evolutions, entities whose data arrived after they were tracked).
+ * A Pokédex change then only touches the entities of the species that changed, see
+ * {@link #collectSpecies}.
+ * <p>
+ * Positions are kept in a {@link SpatialHash} for {@link #nearest} queries, updated from each tracked
+ * Pokémon's tick ({@code PokemonEntityTickMixin}); a Pokémon only changes bucket when it crosses into another
+ * column, so a query touches the columns around the player and nothing else. Headless stand-ins
+ * ({@link NametagDecorationCache.HeadlessEntity}) are filed by species but have no position. Client thread only.
+ */
+public final class TrackedPokemonRegistry {
+
+    private static final Map<Object, Integer> SPECIES_OF = new HashMap<>();
+    private static final Int2ObjectOpenHashMap<Set<Object>> BY_SPECIES = new Int2ObjectOpenHashMap<>();
+    private static final SpatialHash<Entity> POSITIONS = new SpatialHash<>();
+
+    private TrackedPokemonRegistry() {
+    }
+
+    public static void onTrackingStart(Entity entity) {
+        if (entity == null || !entity.level().isClientSide()) return;
+
+        CobblemonAdapter adapter = CobblemonAdapters.get();
+        Object pokemon = adapter.pokemon(entity);
+        if (pokemon == null) return;
+
+        String speciesId = NametagDecorator.speciesId(adapter, pokemon);
+        index(entity, speciesId != null ? PokedexRefreshManager.speciesId(speciesId) : SpeciesIndex.NO_ID);
+    }
+
+    public static void onTrackingEnd(Entity entity) {
+        if (entity == null) return;
+        Integer speciesId = SPECIES_OF.remove(entity);
+        if (speciesId == null) return;
+        removeFromBucket(entity, speciesId);
+        POSITIONS.remove(entity);
+        NametagDecorationCache.invalidate(entity);
+    }
+
+    /**
+     * Files {@code entity} under {@code speciesId}, moving it if it was filed under another species.
+     */
+    static void index(Object entity, int speciesId) {
+        Integer previous = SPECIES_OF.put(entity, speciesId);
+        if (previous != null) {
+            if (previous == speciesId) return;
+            removeFromBucket(entity, previous);
+            if (entity instanceof Entity e) POSITIONS.setSpecies(e, speciesId);
+        } else if (entity instanceof Entity e) {
+            POSITIONS.put(e, e.getX(), e.getY(), e.getZ(), speciesId);
+        }
+        Set<Object> bucket = BY_SPECIES.get(speciesId);
+        if (bucket == null) {
+            bucket = new HashSet<>();
+            BY_SPECIES.put(speciesId, bucket);
+        }
+        bucket.add(entity);
+    }
+
+    /**
+     * Adds every tracked entity whose species is set in {@code speciesIds} to {@code into}.
+     *
+     * @return how many entities were added
+     */
+    public static int collectSpecies(BitSet speciesIds, Collection<Object> into) {
+        int count = 0;
+        for (int id = speciesIds.nextSetBit(0); id >= 0; id = speciesIds.nextSetBit(id + 1)) {
+            Set<Object> bucket = BY_SPECIES.get(id);
+            if (bucket == null) continue;
+            into.addAll(bucket);
+            count += bucket.size();
+        }
+        return count;
+    }
+
+    /**
+     * Client thread, at the end of a client-side Pokémon's tick: records where it is now. Untracked entities
+     * are ignored.
+     */
+    public static void onMove(Entity entity) {
+        POSITIONS.move(entity, entity.getX(), entity.getY(), entity.getZ());
+    }
+
+    /**
+     * Collects the tracked Pokémon nearest to a point, see {@link SpatialHash#nearest}, as of their last tick.
+     */
+    public static void nearest(double x, double y, double z, double radius, int limit, IntPredicate species,
+                               boolean distinct, List<Entity> out) {
+        POSITIONS.nearest(x, y, z, radius, limit, species, distinct, out);
+    }
+
+    /**
+     * @return the {@link SpeciesIndex} id an entity is filed under, or {@link SpeciesIndex#NO_ID}
+     */
+    public static int speciesOf(Object entity) {
+        Integer id = SPECIES_OF.get(entity);
+        return id != null ? id : SpeciesIndex.NO_ID;
+    }
+
+    public static int size() {
+        return SPECIES_OF.size();
+    }
+
+    /**
+     * Drops every entity that does not belong to {@code level} (level change: the old level's entities are not
+     * untracked one by one). {@code null} drops everything.
+     *
+     * @return how many entities were dropped
+     */
+    public static int retainLevel(Level level) {
+        int dropped = 0;
+        Iterator<Map.Entry<Object, Integer>> it = SPECIES_OF.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Object, Integer> entry = it.next();
+            Object entity = entry.getKey();
+            if (level != null && entity instanceof Entity e && e.level() == level) continue;
+            it.remove();
+            removeFromBucket(entity, entry.getValue());
+            if (entity instanceof Entity e) POSITIONS.remove(e);
+            dropped++;
+        }
+        return dropped;
+    }
+
+    public static void clear() {
+        SPECIES_OF.clear();
+        BY_SPECIES.clear();
+        POSITIONS.clear();
+    }
+
+    private static void removeFromBucket(Object entity, int speciesId) {
+        Set<Object> bucket = BY_SPECIES.get(speciesId);
+        if (bucket == null) return;
+        bucket.remove(entity);
+        if (bucket.isEmpty()) BY_SPECIES.remove(speciesId);
+    }
+}
@@ -0,0 +1,108 @@
+package com.levelscraft7.catchindicator.client;
+
+import net.minecraft.ChatFormatting;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.Font;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.network.chat.Component;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Corner list of the nearest uncaught species around the player, with a direction arrow and distance.
+ * <p>
+ * Every {@link CatchIndicatorConfig#hudRefreshTicks()} ticks, one {@link TrackedPokemonRegistry#nearest} query
+ * joins the tracked positions against the caught bits of the current snapshot; the lines are built then and
+ * only drawn in between. Nothing here touches Cobblemon. Client thread only.
+ */
+public final class UncaughtNearbyHud {
+
+    private static final String[] ARROWS = {"↑", "↗", "→", "↘", "↓", "↙", "←", "↖"};
+    private static final int MARGIN = 4;
+    private static final int UNKNOWN_COLOR = 0xFFFFFF;
+    private static final int SEEN_COLOR = 0xAAAAAA;
+
+    private static final List<Entity> NEAREST = new ArrayList<>();
+    private static List<Component> lines = List.of();
+    private static int ticksUntilRefresh;
+
+    private UncaughtNearbyHud() {
+    }
+
+    /**
+     * Client thread, once per client tick.
+     */
+    public static void tick() {
+        if (!CatchIndicatorConfig.hudEnabled()) {
+            lines = List.of();
+            return;
+        }
+        if (--ticksUntilRefresh > 0) return;
+        ticksUntilRefresh = CatchIndicatorConfig.hudRefreshTicks();
+        refresh(Minecraft.getInstance().getCameraEntity());
+    }
+
+    public static void render(GuiGraphics graphics) {
+        List<Component> current = lines;
+        if (current.isEmpty()) return;
+        Minecraft mc = Minecraft.getInstance();
+        if (mc.options.hideGui || mc.getDebugOverlay().showDebugScreen()) return;
+
+        Font font = mc.font;
+        int y = MARGIN;
+        for (Component line : current) {
+            graphics.drawString(font, line, MARGIN, y, UNKNOWN_COLOR);
+            y += font.lineHeight + 1;
+        }
+    }
+
+    public static void clear() {
+        NEAREST.clear();
+        lines = List.of();
+        ticksUntilRefresh = 0;
+    }
+
+    private static void refresh(Entity viewer) {
+        if (viewer == null) {
+            lines = List.of();
+            return;
+        }
+        DexSnapshot dex = PokedexRefreshManager.snapshot();
+        TrackedPokemonRegistry.nearest(viewer.getX(), viewer.getY(), viewer.getZ(), CatchIndicatorConfig.hudRadius(),
+                CatchIndicatorConfig.hudEntries(), id -> id >= 0 && !dex.isCaught(id), true, NEAREST);
+        if (NEAREST.isEmpty()) {
+            lines = List.of();
+            return;
+        }
+
+        List<Component> next = new ArrayList<>(NEAREST.size() + 1);
+        next.add(Component.translatable("catchindicator.hud.uncaught_nearby").withStyle(ChatFormatting.GOLD));
+        float yaw = viewer.getYRot();
+        for (Entity entity : NEAREST) {
+            double dx = entity.getX() - viewer.getX();
+            double dz = entity.getZ() - viewer.getZ();
+            int distance = (int) Math.round(Math.sqrt(dx * dx + dz * dz));
+            boolean seen = dex.isSeen(TrackedPokemonRegistry.speciesOf(entity));
+            next.add(Component.literal(ARROWS[arrowIndex(dx, dz, yaw)] + " ")
+                    .append(entity.getName())
+                    .append(" " + distance + "m")
+                    .withColor(seen ? SEEN_COLOR : UNKNOWN_COLOR));
+        }
+        NEAREST.clear();
+        lines = next;
+    }
+
+    /**
+     * @return index into the 8 arrows of the direction of ({@code dx}, {@code dz}) relative to a viewer facing
+     * {@code yawDegrees} (0 is straight ahead, counting clockwise)
+     */
+    public static int arrowIndex(double dx, double dz, float yawDegrees) {
+        // Minecraft yaw: 0 faces +Z, 90 faces -X
+        float target = (float) Math.toDegrees(Math.atan2(-dx, dz));
+        float relative = Mth.wrapDegrees(target - yawDegrees);
+        return Math.floorMod(Math.round(relative / 45f), ARROWS.length);
+    }
+}
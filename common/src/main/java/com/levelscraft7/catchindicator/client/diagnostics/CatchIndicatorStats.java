@@ -0,0 +1,163 @@
+package com.levelscraft7.catchindicator.client.diagnostics;
+
+import com.levelscraft7.catchindicator.core.adapter.ReflectiveCobblemonAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Always-on counters behind {@code /catchindicator stats}, plus sampling for {@link NametagDecorationEvent}.
+ * <p>
+ * Counters are {@link LongAdder}s: increments from the render and network threads never contend. Cache hits,
+ * the one per-frame count, are a plain field of the client thread.
+ */
+public final class CatchIndicatorStats {
+
+    public static final int DECORATION_SAMPLE_RATE = 64;
+
+    // Cache misses and uncached decorations
+    private static final LongAdder DECORATIONS = new LongAdder();
+    private static final LongAdder LIVE_DEX_LOOKUPS = new LongAdder();
+    private static final LongAdder FULL_SYNCS = new LongAdder();
+    private static final LongAdder INCREMENTAL_SYNCS = new LongAdder();
+    private static final LongAdder INGESTION_BATCHES = new LongAdder();
+    private static final LongAdder SYNCS_COALESCED = new LongAdder();
+    private static final LongAdder REFRESHES = new LongAdder();
+    private static final LongAdder ENTITIES_REFRESHED = new LongAdder();
+    // The adapter counts its own fallbacks; reset() only moves this baseline
+    private static volatile long fallbacksAtReset;
+    // Client thread only: a hit is counted with a plain increment, see cacheHit()
+    private static long cacheHits;
+    // Gauges, written by the client thread only
+    private static volatile int refreshBacklog;
+    private static volatile int refreshBacklogPeak;
+
+    // Sampling only; a lost update from a racing thread just shifts the sample
+    private static int sampleCounter;
+
+    private CatchIndicatorStats() {
+    }
+
+    public static void decoration() {
+        DECORATIONS.increment();
+    }
+
+    /**
+     * Client thread: one decoration served from the cache. Called per Pokémon per frame, so a plain field.
+     */
+    public static void cacheHit() {
+        cacheHits++;
+    }
+
+    public static void liveDexLookup() {
+        LIVE_DEX_LOOKUPS.increment();
+    }
+
+    public static long reflectionFallbacks() {
+        return ReflectiveCobblemonAdapter.fallbacks() - fallbacksAtReset;
+    }
+
+    /**
+     * @return cache misses and uncached decorations since the last {@link #reset()}
+     */
+    public static long decorationCount() {
+        return DECORATIONS.sum();
+    }
+
+    /**
+     * Client thread.
+     *
+     * @return decorations served from the cache since the last {@link #reset()}
+     */
+    public static long cacheHitCount() {
+        return cacheHits;
+    }
+
+    public static long liveDexLookupCount() {
+        return LIVE_DEX_LOOKUPS.sum();
+    }
+
+    public static long entitiesRefreshedCount() {
+        return ENTITIES_REFRESHED.sum();
+    }
+
+    public static void sync(boolean full) {
+        (full ? FULL_SYNCS : INCREMENTAL_SYNCS).increment();
+    }
+
+    /**
+     * One batch of the Pokédex ingestion worker.
+     *
+     * @param coalesced syncs skipped because a later full sync in the same batch covered them
+     */
+    public static void ingestionBatch(int syncs, int coalesced) {
+        INGESTION_BATCHES.increment();
+        SYNCS_COALESCED.add(coalesced);
+    }
+
+    /**
+     * One tick's refresh slice.
+     *
+     * @param backlog entities left for later ticks
+     */
+    public static void refresh(int entities, int backlog) {
+        REFRESHES.increment();
+        ENTITIES_REFRESHED.add(entities);
+        refreshBacklog = backlog;
+        if (backlog > refreshBacklogPeak) refreshBacklogPeak = backlog;
+    }
+
+    /**
+     * @return a begun decoration event for one call in {@link #DECORATION_SAMPLE_RATE} while JFR records it,
+     * otherwise {@code null}
+     */
+    public static NametagDecorationEvent sampleDecoration() {
+        if (++sampleCounter % DECORATION_SAMPLE_RATE != 0) return null;
+        NametagDecorationEvent event = new NametagDecorationEvent();
+        if (!event.isEnabled()) return null;
+        event.fallbacksAtBegin = reflectionFallbacks();
+        event.begin();
+        return event;
+    }
+
+    public static void commit(NametagDecorationEvent event) {
+        event.reflectionFallbacks = reflectionFallbacks() - event.fallbacksAtBegin;
+        event.commit();
+    }
+
+    public static List<String> report() {
+        long hits = cacheHits;
+        long decorations = DECORATIONS.sum() + hits;
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, "decorations: %d, cache hits: %d (%s)",
+                decorations, hits, percent(hits, decorations)));
+        lines.add(String.format(Locale.ROOT, "live Pokédex lookups: %d, reflection fallbacks: %d",
+                LIVE_DEX_LOOKUPS.sum(), reflectionFallbacks()));
+        lines.add(String.format(Locale.ROOT, "syncs: %d full, %d incremental, %d coalesced in %d batches",
+                FULL_SYNCS.sum(), INCREMENTAL_SYNCS.sum(), SYNCS_COALESCED.sum(), INGESTION_BATCHES.sum()));
+        lines.add(String.format(Locale.ROOT, "refresh slices: %d, entities refreshed: %d, backlog: %d (peak %d)",
+                REFRESHES.sum(), ENTITIES_REFRESHED.sum(), refreshBacklog, refreshBacklogPeak));
+        return lines;
+    }
+
+    public static void reset() {
+        DECORATIONS.reset();
+        cacheHits = 0L;
+        LIVE_DEX_LOOKUPS.reset();
+        fallbacksAtReset = ReflectiveCobblemonAdapter.fallbacks();
+        FULL_SYNCS.reset();
+        INCREMENTAL_SYNCS.reset();
+        INGESTION_BATCHES.reset();
+        SYNCS_COALESCED.reset();
+        REFRESHES.reset();
+        ENTITIES_REFRESHED.reset();
+        refreshBacklogPeak = refreshBacklog;
+    }
+
+    private static String percent(long part, long total) {
+        if (total == 0) return "n/a";
+        return String.format(Locale.ROOT, "%.1f%%", 100.0 * part / total);
+    }
+}
@@ -0,0 +1,31 @@
+package com.levelscraft7.catchindicator.client.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("catchindicator.NametagDecoration")
+@Label("Nametag Decoration")
+@Category("CatchIndicator")
+@Description("One sampled nametag decoration that missed the cache (1 in " + CatchIndicatorStats.DECORATION_SAMPLE_RATE + ")")
+public final class NametagDecorationEvent extends Event {
+
+    @Label("Path")
+    @Description("index, live-dex or unresolved")
+    public String path;
+
+    @Label("Status")
+    public String status;
+
+    @Label("Wild")
+    public boolean wild;
+
+    @Label("Reflection Fallbacks")
+    @Description("Reflective field scans hit while decorating")
+    public long reflectionFallbacks;
+
+    // Not recorded: counter value when the event began
+    transient long fallbacksAtBegin;
+}
@@ -0,0 +1,24 @@
+package com.levelscraft7.catchindicator.client.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("catchindicator.NametagRefresh")
+@Label("Nametag Refresh")
+@Category("CatchIndicator")
+@Description("One tick's share of the nametag invalidations for species whose status changed")
+public final class NametagRefreshEvent extends Event {
+
+    @Label("Species Changed")
+    public int speciesChanged;
+
+    @Label("Entities Touched")
+    public int entitiesTouched;
+
+    @Label("Backlog")
+    @Description("Entities still queued for a later tick")
+    public int backlog;
+}
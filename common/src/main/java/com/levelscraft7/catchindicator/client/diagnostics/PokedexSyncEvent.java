@@ -0,0 +1,24 @@
+package com.levelscraft7.catchindicator.client.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("catchindicator.PokedexSync")
+@Label("Pokédex Sync")
+@Category("CatchIndicator")
+@Description("A Pokédex sync from Cobblemon, as processed by CatchIndicator")
+public final class PokedexSyncEvent extends Event {
+
+    @Label("Kind")
+    @Description("full, incremental or record")
+    public String kind;
+
+    @Label("Records Scanned")
+    public int recordsScanned;
+
+    @Label("Species Changed")
+    public int speciesChanged;
+}
@@ -0,0 +1,126 @@
+package com.levelscraft7.catchindicator.client.render;
+
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+import java.util.Arrays;
+
+/**
+ * The indicator quads collected over one frame, emitted together by {@link IndicatorRenderer}.
+ * <p>
+ * Corners are transformed by the nametag pose when a quad is added, so emitting is a straight copy into
+ * the vertex consumer. Vertex order and UVs follow vanilla glyph quads: top-left, bottom-left,
+ * bottom-right, top-right. The arrays grow to the busiest frame seen and are reused afterwards.
+ * <p>
+ * Not thread-safe: filled and drained on the render thread.
+ */
+public final class IndicatorBatch {
+
+    /** Alpha of vanilla's see-through nametag pass. */
+    public static final int SEE_THROUGH_ALPHA = 0x20;
+
+    private static final int FLOATS_PER_QUAD = 12;
+    private static final float[] U = {0f, 0f, 1f, 1f};
+    private static final float[] V = {0f, 1f, 1f, 0f};
+
+    private final Vector3f corner = new Vector3f();
+    private float[] positions;
+    private int[] colors;
+    private int[] lights;
+    private boolean[] seeThrough;
+    private int size;
+    private int seeThroughCount;
+
+    public IndicatorBatch(int capacity) {
+        int initial = Math.max(1, capacity);
+        positions = new float[initial * FLOATS_PER_QUAD];
+        colors = new int[initial];
+        lights = new int[initial];
+        seeThrough = new boolean[initial];
+    }
+
+    /**
+     * Adds a {@code size} x {@code size} quad whose top-left corner is at ({@code x}, {@code y}) in the space of
+     * {@code pose}.
+     *
+     * @param seeThrough also draw the quad in the see-through pass, as vanilla does for non-sneaking entities
+     */
+    public void add(Matrix4f pose, float x, float y, float size, int argb, int light, boolean seeThrough) {
+        if (this.size == colors.length) grow();
+        int base = this.size * FLOATS_PER_QUAD;
+        store(pose, x, y, base);
+        store(pose, x, y + size, base + 3);
+        store(pose, x + size, y + size, base + 6);
+        store(pose, x + size, y, base + 9);
+        colors[this.size] = argb;
+        lights[this.size] = light;
+        this.seeThrough[this.size] = seeThrough;
+        if (seeThrough) seeThroughCount++;
+        this.size++;
+    }
+
+    /**
+     * Writes the collected quads to {@code consumer}.
+     *
+     * @param seeThroughPass only the see-through quads, faded to {@link #SEE_THROUGH_ALPHA}
+     * @return how many quads were written
+     */
+    public int emit(VertexConsumer consumer, boolean seeThroughPass) {
+        int emitted = 0;
+        for (int i = 0; i < size; i++) {
+            if (seeThroughPass && !seeThrough[i]) continue;
+            int argb = seeThroughPass ? (colors[i] & 0x00FFFFFF) | SEE_THROUGH_ALPHA << 24 : colors[i];
+            int light = lights[i];
+            int base = i * FLOATS_PER_QUAD;
+            for (int v = 0; v < 4; v++) {
+                int p = base + v * 3;
+                consumer.addVertex(positions[p], positions[p + 1], positions[p + 2])
+                        .setColor(argb)
+                        .setUv(U[v], V[v])
+                        .setLight(light);
+            }
+            emitted++;
+        }
+        return emitted;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean hasSeeThrough() {
+        return seeThroughCount > 0;
+    }
+
+    /**
+     * @return how many quads fit before the arrays grow again
+     */
+    public int capacity() {
+        return colors.length;
+    }
+
+    public void clear() {
+        size = 0;
+        seeThroughCount = 0;
+    }
+
+    private void store(Matrix4f pose, float x, float y, int offset) {
+        pose.transformPosition(x, y, 0f, corner);
+        positions[offset] = corner.x;
+        positions[offset + 1] = corner.y;
+        positions[offset + 2] = corner.z;
+    }
+
+    private void grow() {
+        int capacity = colors.length * 2;
+        positions = Arrays.copyOf(positions, capacity * FLOATS_PER_QUAD);
+        colors = Arrays.copyOf(colors, capacity);
+        lights = Arrays.copyOf(lights, capacity);
+        seeThrough = Arrays.copyOf(seeThrough, capacity);
+    }
+}
@@ -0,0 +1,21 @@
+package com.levelscraft7.catchindicator.client.render;
+
+/**
+ * Icon drawn next to a Pokémon's nametag, tinted over the same white texture.
+ */
+public enum IndicatorIcon {
+    NONE(0),
+    CAUGHT(0xFFFFFFFF),
+    // Species caught, but not in the form this Pokémon has
+    FORM_MISSING(0xFF808080);
+
+    private final int argb;
+
+    IndicatorIcon(int argb) {
+        this.argb = argb;
+    }
+
+    public int argb() {
+        return argb;
+    }
+}
@@ -0,0 +1,93 @@
+package com.levelscraft7.catchindicator.client.render;
+
+import com.levelscraft7.catchindicator.client.CatchIndicatorConfig;
+import com.mojang.blaze3d.vertex.PoseStack;
+import net.minecraft.client.gui.Font;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.entity.EntityRenderDispatcher;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityAttachment;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Draws the indicator icons of every visible nametag as one batch of textured quads per frame.
+ * <p>
+ * {@code EntityRendererNameTagMixin} hands over the icon with the undecorated name, so vanilla lays out and
+ * draws plain text; the icon quad is placed left of it in nametag space (same anchor, billboard and scale
+ * as {@code EntityRenderer.renderNameTag}) and collected. {@code LevelRendererIndicatorMixin} flushes the
+ * batch once entities are drawn: one see-through pass and one normal pass, whatever the number of Pokémon.
+ * <p>
+ * Render thread only.
+ */
+public final class IndicatorRenderer {
+
+    public static final ResourceLocation TEXTURE =
+            ResourceLocation.fromNamespaceAndPath("catchindicator", "textures/font/caught.png");
+
+    // Nametag space, in font pixels: the glyph metrics of font/default.json, one space away from the name
+    static final float ICON_SIZE = 11f;
+    static final float ICON_GAP = 4f;
+    static final float ICON_TOP = -2f;
+
+    private static final float NAMETAG_SCALE = 0.025f;
+    // EntityRenderer.renderNameTag skips entities further than this
+    private static final double MAX_DISTANCE_SQR = 4096.0;
+
+    private static final IndicatorBatch BATCH = new IndicatorBatch(64);
+
+    private IndicatorRenderer() {
+    }
+
+    public static boolean isEnabled() {
+        return CatchIndicatorConfig.batchedIcons();
+    }
+
+    /**
+     * Queues the icon of one nametag. {@code poseStack} is the entity's, as passed to {@code renderNameTag};
+     * it is left as found.
+     */
+    public static void collect(EntityRenderDispatcher dispatcher, Font font, Entity entity, Component label,
+                               IndicatorIcon icon, PoseStack poseStack, int packedLight, float partialTick) {
+        if (icon == IndicatorIcon.NONE) return;
+        if (dispatcher.distanceToSqr(entity) > MAX_DISTANCE_SQR) return;
+        Vec3 anchor = entity.getAttachments().getNullable(EntityAttachment.NAME_TAG, 0, entity.getViewYRot(partialTick));
+        if (anchor == null) return;
+
+        poseStack.pushPose();
+        poseStack.translate(anchor.x, anchor.y + 0.5, anchor.z);
+        poseStack.mulPose(dispatcher.cameraOrientation());
+        poseStack.scale(NAMETAG_SCALE, -NAMETAG_SCALE, NAMETAG_SCALE);
+        float x = iconLeft(font.width(label));
+        BATCH.add(poseStack.last().pose(), x, ICON_TOP, ICON_SIZE, icon.argb(), packedLight, !entity.isDiscrete());
+        poseStack.popPose();
+    }
+
+    /**
+     * Draws and clears everything collected since the last flush.
+     */
+    public static void flush(MultiBufferSource bufferSource) {
+        if (BATCH.isEmpty()) return;
+        if (BATCH.hasSeeThrough()) {
+            BATCH.emit(bufferSource.getBuffer(RenderType.textSeeThrough(TEXTURE)), true);
+        }
+        BATCH.emit(bufferSource.getBuffer(RenderType.text(TEXTURE)), false);
+        BATCH.clear();
+    }
+
+    /**
+     * Drops anything collected but not drawn (world left mid-frame).
+     */
+    public static void discard() {
+        BATCH.clear();
+    }
+
+    /**
+     * @return the x of the icon's left edge for a name {@code labelWidth} font pixels wide, centered as vanilla does
+     */
+    public static float iconLeft(int labelWidth) {
+        return -labelWidth / 2f - ICON_GAP - ICON_SIZE;
+    }
+}
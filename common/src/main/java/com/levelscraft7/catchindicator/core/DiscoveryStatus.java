@@ -1,4 +1,4 @@
-package com.levelscraft7.catchindicator.client;
+package com.levelscraft7.catchindicator.core;
 
 public enum DiscoveryStatus {
     CAUGHT,
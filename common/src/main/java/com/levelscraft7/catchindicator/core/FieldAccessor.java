@@ -0,0 +1,123 @@
+package com.levelscraft7.catchindicator.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reflective instance field read by candidate names (or by field type), resolved once per receiver class.
+ * <p>
+ * Resolution walks the receiver class and its superclasses, turns every matching field into a getter
+ * {@link MethodHandle} and caches the result in a {@link ClassValue}, misses included. {@link #get} never
+ * throws and returns the first non-null value among the matching fields.
+ */
+public final class FieldAccessor {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodHandle[] NONE = new MethodHandle[0];
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<MethodHandle[]> DECLARED = new ClassValue<>() {
+        @Override
+        protected MethodHandle[] computeValue(Class<?> type) {
+            List<MethodHandle> getters = new ArrayList<>();
+            for (Field f : type.getDeclaredFields()) {
+                if (Modifier.isStatic(f.getModifiers())) continue;
+                MethodHandle getter = unreflectGetter(f);
+                if (getter != null) getters.add(getter);
+            }
+            return getters.isEmpty() ? NONE : getters.toArray(NONE);
+        }
+    };
+
+    private final String[] names;
+    private final Class<?> fieldType;
+    private final ClassValue<MethodHandle[]> getters = new ClassValue<>() {
+        @Override
+        protected MethodHandle[] computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private FieldAccessor(String[] names, Class<?> fieldType) {
+        this.names = names;
+        this.fieldType = fieldType;
+    }
+
+    public static FieldAccessor of(String... names) {
+        return new FieldAccessor(names.clone(), null);
+    }
+
+    /**
+     * Matches every instance field whose declared type is assignable to {@code fieldType}.
+     */
+    public static FieldAccessor ofType(Class<?> fieldType) {
+        return new FieldAccessor(new String[0], fieldType);
+    }
+
+    public Object get(Object target) {
+        if (target == null) return null;
+        for (MethodHandle getter : getters.get(target.getClass())) {
+            Object value = read(getter, target);
+            if (value != null) return value;
+        }
+        return null;
+    }
+
+    /**
+     * Getters for every instance field declared directly on {@code type}, resolved once per class.
+     */
+    public static MethodHandle[] declaredGetters(Class<?> type) {
+        return DECLARED.get(type);
+    }
+
+    public static Object read(MethodHandle getter, Object target) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    private MethodHandle[] resolve(Class<?> type) {
+        List<MethodHandle> found = new ArrayList<>();
+        if (fieldType != null) {
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field f : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(f.getModifiers()) || !fieldType.isAssignableFrom(f.getType())) continue;
+                    MethodHandle getter = unreflectGetter(f);
+                    if (getter != null) found.add(getter);
+                }
+            }
+        }
+        for (String name : names) {
+            Field f = findField(type, name);
+            if (f == null) continue;
+            MethodHandle getter = unreflectGetter(f);
+            if (getter != null) found.add(getter);
+        }
+        return found.isEmpty() ? NONE : found.toArray(NONE);
+    }
+
+    private static Field findField(Class<?> type, String name) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field f : c.getDeclaredFields()) {
+                if (f.getName().equals(name) && !Modifier.isStatic(f.getModifiers())) return f;
+            }
+        }
+        return null;
+    }
+
+    private static MethodHandle unreflectGetter(Field f) {
+        try {
+            f.setAccessible(true);
+            return LOOKUP.unreflectGetter(f).asType(GETTER);
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+}
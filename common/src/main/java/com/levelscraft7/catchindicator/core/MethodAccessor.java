@@ -0,0 +1,137 @@
+package com.levelscraft7.catchindicator.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reflective instance method call by candidate names, resolved once per receiver class.
+ * <p>
+ * Each accessor describes one (candidate-name list, arity) pair. The first time a receiver class is seen,
+ * the candidates are resolved into {@link MethodHandle}s and cached in a {@link ClassValue}; classes where
+ * nothing matches cache an empty result, so misses are as cheap as hits. {@link #invoke} never throws:
+ * a missing method or an exception raised by the target both yield {@code null}.
+ */
+public final class MethodAccessor {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final Candidate[] NONE = new Candidate[0];
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType UNARY = MethodType.methodType(Object.class, Object.class, Object.class);
+
+    private final String[] names;
+    private final int arity;
+    private final ClassValue<Candidate[]> candidates = new ClassValue<>() {
+        @Override
+        protected Candidate[] computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private MethodAccessor(int arity, String[] names) {
+        this.arity = arity;
+        this.names = names.clone();
+    }
+
+    /**
+     * No-arg accessor: the first candidate name that exists on the receiver wins.
+     */
+    public static MethodAccessor of(String... names) {
+        return new MethodAccessor(0, names);
+    }
+
+    /**
+     * Single-argument accessor: the first candidate (in name order) whose parameter accepts the argument wins.
+     */
+    public static MethodAccessor withArg(String... names) {
+        return new MethodAccessor(1, names);
+    }
+
+    public boolean isPresent(Class<?> type) {
+        return type != null && candidates.get(type).length > 0;
+    }
+
+    public Object invoke(Object target) {
+        if (target == null || arity != 0) return null;
+        Candidate[] found = candidates.get(target.getClass());
+        if (found.length == 0) return null;
+        try {
+            return (Object) found[0].handle.invokeExact(target);
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    public Object invoke(Object target, Object arg) {
+        if (target == null || arity != 1) return null;
+        for (Candidate candidate : candidates.get(target.getClass())) {
+            if (!candidate.accepts(arg)) continue;
+            try {
+                return (Object) candidate.handle.invokeExact(target, arg);
+            } catch (Throwable ignored) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private Candidate[] resolve(Class<?> type) {
+        List<Candidate> found = new ArrayList<>();
+        for (String name : names) {
+            for (Method m : lookupMethods(type, name)) {
+                MethodHandle handle = unreflect(m);
+                if (handle == null) continue;
+                Class<?> parameter = arity == 0 ? null : m.getParameterTypes()[0];
+                found.add(new Candidate(handle.asType(arity == 0 ? GETTER : UNARY), parameter));
+                // a no-arg call has nothing to discriminate on, the first match is final
+                if (arity == 0) return found.toArray(NONE);
+            }
+        }
+        return found.isEmpty() ? NONE : found.toArray(NONE);
+    }
+
+    private List<Method> lookupMethods(Class<?> type, String name) {
+        List<Method> out = new ArrayList<>();
+        for (Method m : type.getMethods()) {
+            if (matches(m, name)) out.add(m);
+        }
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Method m : c.getDeclaredMethods()) {
+                if (matches(m, name) && !out.contains(m)) out.add(m);
+            }
+        }
+        return out;
+    }
+
+    private boolean matches(Method m, String name) {
+        return m.getName().equals(name)
+                && m.getParameterCount() == arity
+                && !Modifier.isStatic(m.getModifiers())
+                && !m.isBridge();
+    }
+
+    static MethodHandle unreflect(Method m) {
+        try {
+            m.setAccessible(true);
+            return LOOKUP.unreflect(m);
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    static Class<?> box(Class<?> type) {
+        if (!type.isPrimitive()) return type;
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private record Candidate(MethodHandle handle, Class<?> parameter) {
+        boolean accepts(Object arg) {
+            if (arg == null) return !parameter.isPrimitive();
+            return box(parameter).isInstance(arg);
+        }
+    }
+}
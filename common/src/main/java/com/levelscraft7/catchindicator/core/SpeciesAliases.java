@@ -0,0 +1,110 @@
+package com.levelscraft7.catchindicator.core;
+
+import com.levelscraft7.catchindicator.core.adapter.CobblemonAdapter;
+import net.minecraft.resources.ResourceLocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Maps every known spelling of a species to its canonical resource identifier.
+ * <p>
+ * Built once per species registry (re)load from Cobblemon's registry: resource identifier, its path,
+ * showdown id and {@code cobblemon:}-prefixed showdown id all point at the same {@link ResourceLocation}.
+ * The table is immutable once published, so any thread resolves with a single hash probe.
+ * <p>
+ * Only the client thread builds it ({@link #rebuildIfStale}, from the client session tick): walking Cobblemon's
+ * registry is not safe from the scan and ingestion threads that intern species. {@link #resolve} never builds;
+ * until the first build it finds nothing and callers fall back to the {@code cobblemon:} spelling.
+ */
+public final class SpeciesAliases {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("catchindicator");
+
+    private static volatile Map<String, ResourceLocation> table = Map.of();
+    private static volatile boolean stale = true;
+
+    private SpeciesAliases() {
+    }
+
+    /**
+     * Marks the table for rebuild; called when Cobblemon reloads its species registry, from any thread.
+     */
+    public static void invalidate() {
+        stale = true;
+    }
+
+    /**
+     * Client thread: rebuilds the table if the registry was reloaded (or not loaded yet) since the last build.
+     */
+    public static void rebuildIfStale(CobblemonAdapter adapter) {
+        if (stale) rebuild(adapter);
+    }
+
+    /**
+     * Any thread; reads the last built table only.
+     *
+     * @return the canonical identifier for {@code spelling}, or {@code null} if the species is not registered
+     */
+    public static ResourceLocation resolve(String spelling) {
+        if (spelling == null) return null;
+
+        Map<String, ResourceLocation> current = table;
+        ResourceLocation rl = current.get(spelling);
+        if (rl != null) return rl;
+        // ids are lowercase; only mixed-case input pays for the copy
+        return current.get(spelling.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Client thread.
+     */
+    public static void rebuild(CobblemonAdapter adapter) {
+        stale = false;
+        Iterable<?> species = adapter.registeredSpecies();
+        if (species == null) {
+            // registry not there yet, try again on the next tick
+            stale = true;
+            return;
+        }
+
+        Map<String, ResourceLocation> built = new HashMap<>();
+        try {
+            collect(adapter, species, built);
+        } catch (RuntimeException reloading) {
+            // the registry changed under us (an integrated server reloading it); the next tick retries
+            stale = true;
+            return;
+        }
+
+        if (built.isEmpty()) {
+            stale = true;
+            return;
+        }
+        table = Map.copyOf(built);
+        LOGGER.debug("species alias table rebuilt: {} spellings", built.size());
+    }
+
+    private static void collect(CobblemonAdapter adapter, Iterable<?> species, Map<String, ResourceLocation> built) {
+        for (Object s : species) {
+            ResourceLocation rl = adapter.identifierOfSpecies(s);
+            if (rl == null) continue;
+            put(built, rl.toString(), rl);
+            put(built, rl.getPath(), rl);
+
+            String showdown = adapter.showdownIdOfSpecies(s);
+            if (showdown != null && !showdown.isBlank()) {
+                put(built, showdown, rl);
+                put(built, rl.getNamespace() + ":" + showdown, rl);
+            }
+        }
+    }
+
+    private static void put(Map<String, ResourceLocation> built, String spelling, ResourceLocation rl) {
+        // first registration wins, so a path never shadows a fully qualified id
+        built.putIfAbsent(spelling.toLowerCase(Locale.ROOT), rl);
+    }
+}
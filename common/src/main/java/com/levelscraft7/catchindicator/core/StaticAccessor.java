@@ -0,0 +1,106 @@
+package com.levelscraft7.catchindicator.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Reflective static read on a class known only by name: a static field, or else the first
+ * no-arg static method among the candidate names.
+ * <p>
+ * The class lookup and member resolution happen once, on first use; the resulting handle (or the fact that
+ * nothing was found) is kept for the lifetime of the accessor. {@link #get} never throws.
+ */
+public final class StaticAccessor {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType SUPPLIER = MethodType.methodType(Object.class);
+    private static final MethodHandle MISSING = MethodHandles.constant(Object.class, null);
+
+    private final String className;
+    private final String[] fieldNames;
+    private final String[] methodNames;
+    private volatile MethodHandle handle;
+
+    private StaticAccessor(String className, String[] fieldNames, String[] methodNames) {
+        this.className = className;
+        this.fieldNames = fieldNames;
+        this.methodNames = methodNames;
+    }
+
+    public static StaticAccessor field(String className, String... fieldNames) {
+        return new StaticAccessor(className, fieldNames.clone(), new String[0]);
+    }
+
+    public static StaticAccessor method(String className, String... methodNames) {
+        return new StaticAccessor(className, new String[0], methodNames.clone());
+    }
+
+    public boolean isPresent() {
+        return resolved() != MISSING;
+    }
+
+    public Object get() {
+        MethodHandle h = resolved();
+        if (h == MISSING) return null;
+        try {
+            return (Object) h.invokeExact();
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    private MethodHandle resolved() {
+        MethodHandle h = handle;
+        if (h == null) {
+            h = resolve();
+            handle = h;
+        }
+        return h;
+    }
+
+    private MethodHandle resolve() {
+        Class<?> type = loadClass(className);
+        if (type == null) return MISSING;
+
+        for (String name : fieldNames) {
+            try {
+                Field f = type.getDeclaredField(name);
+                if (!Modifier.isStatic(f.getModifiers())) continue;
+                f.setAccessible(true);
+                return LOOKUP.unreflectGetter(f).asType(SUPPLIER);
+            } catch (Throwable ignored) {
+                // resolution time only, never on the read path
+            }
+        }
+
+        for (String name : methodNames) {
+            Method m = findStaticMethod(type, name);
+            if (m == null) continue;
+            MethodHandle h = MethodAccessor.unreflect(m);
+            if (h != null) return h.asType(SUPPLIER);
+        }
+        return MISSING;
+    }
+
+    private static Method findStaticMethod(Class<?> type, String name) {
+        for (Method m : type.getDeclaredMethods()) {
+            if (m.getName().equals(name) && m.getParameterCount() == 0 && Modifier.isStatic(m.getModifiers())) return m;
+        }
+        for (Method m : type.getMethods()) {
+            if (m.getName().equals(name) && m.getParameterCount() == 0 && Modifier.isStatic(m.getModifiers())) return m;
+        }
+        return null;
+    }
+
+    static Class<?> loadClass(String className) {
+        try {
+            return Class.forName(className, true, StaticAccessor.class.getClassLoader());
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.levelscraft7.catchindicator.core.adapter;
+
+import com.levelscraft7.catchindicator.core.DiscoveryStatus;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.Map;
+
+/**
+ * Everything CatchIndicator needs to know about Cobblemon, behind one seam.
+ * <p>
+ * One implementation is picked at start-up by {@link CobblemonAdapters#select()}: a compiled adapter
+ * for a known Cobblemon line when its API checks out, otherwise {@link ReflectiveCobblemonAdapter}.
+ * Parameters are typed {@code Object} on purpose so the reflective adapter keeps working against
+ * classes it has never seen. Implementations must not throw.
+ */
+public interface CobblemonAdapter {
+
+    String name();
+
+    /**
+     * @return the client Pokédex manager, or {@code null} if Cobblemon has not created it yet
+     */
+    Object clientPokedexManager();
+
+    /**
+     * @return the species record map of a Pokédex manager (or of an incremental payload), or {@code null}
+     */
+    Map<?, ?> speciesRecords(Object pokedexManager);
+
+    /**
+     * @return the species id a record reports about itself, when it is not already the map key
+     */
+    Object recordSpeciesId(Object record);
+
+    /**
+     * Best knowledge across a species record and its form records: CAUGHT if any is caught, SEEN if any
+     * was encountered, otherwise UNKNOWN.
+     */
+    DiscoveryStatus recordStatus(Object record);
+
+    /**
+     * The species record's own knowledge, form records not consulted.
+     */
+    DiscoveryStatus recordKnowledge(Object record);
+
+    /**
+     * @return the form records of a species record, keyed by form-only showdown id, or {@code null}
+     */
+    Map<?, ?> formRecords(Object record);
+
+    DiscoveryStatus formStatus(Object formRecord);
+
+    /**
+     * @return the {@code Pokemon} backing a Pokémon entity, or {@code null}
+     */
+    Object pokemon(Object entity);
+
+    /**
+     * @return the species showdown id ({@code "bulbasaur"}), or an empty string
+     */
+    String showdownId(Object pokemon);
+
+    /**
+     * @return the form-only showdown id of the Pokémon's form ({@code "alola"}), or an empty string
+     */
+    String formId(Object pokemon);
+
+    /**
+     * @return the species resource identifier ({@code cobblemon:bulbasaur}), or {@code null}
+     */
+    ResourceLocation speciesIdentifier(Object pokemon);
+
+    boolean isWild(Object entity, Object pokemon);
+
+    /**
+     * @return every species in Cobblemon's species registry, or {@code null} if it is not loaded yet
+     */
+    Iterable<?> registeredSpecies();
+
+    /**
+     * @return the resource identifier of a {@code Species}, or {@code null}
+     */
+    ResourceLocation identifierOfSpecies(Object species);
+
+    /**
+     * @return the showdown id of a {@code Species}, or an empty string
+     */
+    String showdownIdOfSpecies(Object species);
+
+    /**
+     * Slow path: asks the live client Pokédex about this Pokémon's species.
+     */
+    DiscoveryStatus discoveryStatus(Object pokemon);
+}
@@ -0,0 +1,67 @@
+package com.levelscraft7.catchindicator.core.adapter;
+
+import dev.architectury.platform.Mod;
+import dev.architectury.platform.Platform;
+import dev.architectury.utils.Env;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the {@link CobblemonAdapter} picked for this game instance, client or dedicated server.
+ * <p>
+ * Until {@link #select()} runs (common init), the reflective adapter is active so nothing ever sees null.
+ */
+public final class CobblemonAdapters {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("catchindicator");
+    private static final CobblemonAdapter REFLECTIVE = new ReflectiveCobblemonAdapter();
+    private static volatile CobblemonAdapter active = REFLECTIVE;
+    private static volatile CobblemonCapabilities capabilities = CobblemonCapabilities.UNRESOLVED;
+
+    private CobblemonAdapters() {
+    }
+
+    public static CobblemonAdapter get() {
+        return active;
+    }
+
+    public static CobblemonAdapter reflective() {
+        return REFLECTIVE;
+    }
+
+    /**
+     * @return what {@link #select()} found, or {@link CobblemonCapabilities#UNRESOLVED} before it ran
+     */
+    public static CobblemonCapabilities capabilities() {
+        return capabilities;
+    }
+
+    /**
+     * Probes the installed Cobblemon once and activates the compiled adapter when every member it calls is
+     * there, or keeps the reflective one otherwise. The version is only logged; the probe decides.
+     * The reflective entry points are resolved here too, since the typed adapter falls back to them.
+     */
+    public static CobblemonAdapter select() {
+        return select(Platform.getOptionalMod("cobblemon").map(Mod::getVersion).orElse(""),
+                Platform.getEnvironment() == Env.CLIENT);
+    }
+
+    /**
+     * {@link #select()} with the version and side given rather than asked of the loader, for headless runs
+     * (benchmarks) where no loader is there to ask.
+     *
+     * @param version the installed Cobblemon version, {@code ""} when unknown; only logged
+     */
+    public static CobblemonAdapter select(String version, boolean client) {
+        if (TypedCobblemonAdapter.isLinkable(client)) {
+            active = new TypedCobblemonAdapter(REFLECTIVE);
+        } else {
+            LOGGER.warn("Cobblemon {} does not match the compiled API, using reflective adapter", version);
+            active = REFLECTIVE;
+        }
+        capabilities = ReflectiveCobblemonAdapter.probe(version, active.name());
+        LOGGER.info("Cobblemon {} -> {} adapter ({})", version.isEmpty() ? "(unknown)" : version, active.name(),
+                capabilities.summary());
+        return active;
+    }
+}
@@ -0,0 +1,25 @@
+package com.levelscraft7.catchindicator.core.adapter;
+
+/**
+ * What the installed Cobblemon offers, resolved once at common init by {@link CobblemonAdapters#select()}.
+ *
+ * @param version          Cobblemon's mod version, empty when unknown
+ * @param adapter          name of the active {@link CobblemonAdapter}
+ * @param clientSingleton  class holding the client singleton, or {@code null} when none answered
+ * @param pokedexAccessor  a way to reach the client Pokédex manager was found
+ * @param progressEnum     {@code PokedexEntryProgress} was found and its constants mapped
+ * @param speciesRegistry  the species registry singleton was found
+ */
+public record CobblemonCapabilities(String version, String adapter, String clientSingleton,
+                                    boolean pokedexAccessor, boolean progressEnum, boolean speciesRegistry) {
+
+    public static final CobblemonCapabilities UNRESOLVED =
+            new CobblemonCapabilities("", "reflective", null, false, false, false);
+
+    public String summary() {
+        return "client=" + (clientSingleton != null ? clientSingleton : "none")
+                + ", pokedex=" + pokedexAccessor
+                + ", progress=" + progressEnum
+                + ", species=" + speciesRegistry;
+    }
+}
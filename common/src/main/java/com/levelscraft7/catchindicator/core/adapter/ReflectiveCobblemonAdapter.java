@@ -0,0 +1,532 @@
+package com.levelscraft7.catchindicator.core.adapter;
+
+import com.cobblemon.mod.common.pokemon.Pokemon;
+import com.levelscraft7.catchindicator.core.DiscoveryStatus;
+import com.levelscraft7.catchindicator.core.FieldAccessor;
+import com.levelscraft7.catchindicator.core.MethodAccessor;
+import com.levelscraft7.catchindicator.core.SpeciesAliases;
+import com.levelscraft7.catchindicator.core.StaticAccessor;
+import net.minecraft.resources.ResourceLocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Generic fallback adapter: string-based reflection with multiple fallbacks, so that Cobblemon lines we
+ * have no compiled adapter for (or internals that moved) still work, just slower.
+ * <p>
+ * Member names are tried in order; every lookup goes through the cached accessors, so only the first call
+ * per receiver class pays for resolution.
+ */
+public class ReflectiveCobblemonAdapter implements CobblemonAdapter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("catchindicator");
+    // Reads that had to scan fields reflectively, for /catchindicator stats
+    private static final LongAdder FALLBACKS = new LongAdder();
+
+    // Known (historical) client singletons. We try several to survive refactors.
+    private static final String[] COBBLEMON_CLIENT_SINGLETONS = new String[] {
+            "com.cobblemon.mod.common.client.Client",
+            "com.cobblemon.mod.common.client.CobblemonClient",
+            "com.cobblemon.mod.common.client.CobblemonClientKt",
+            "com.cobblemon.mod.common.Cobblemon"
+    };
+
+    private static final StaticAccessor[] CLIENT_INSTANCE_FIELDS = new StaticAccessor[COBBLEMON_CLIENT_SINGLETONS.length];
+    private static final StaticAccessor[] CLIENT_INSTANCE_METHODS = new StaticAccessor[COBBLEMON_CLIENT_SINGLETONS.length];
+
+    static {
+        for (int i = 0; i < COBBLEMON_CLIENT_SINGLETONS.length; i++) {
+            CLIENT_INSTANCE_FIELDS[i] = StaticAccessor.field(COBBLEMON_CLIENT_SINGLETONS[i], "INSTANCE");
+            CLIENT_INSTANCE_METHODS[i] = StaticAccessor.method(COBBLEMON_CLIENT_SINGLETONS[i],
+                    "getInstance", "instance", "getClient", "client");
+        }
+    }
+
+    // Index into COBBLEMON_CLIENT_SINGLETONS picked by probe(), -1 before it ran or when none answered
+    private static volatile int clientSingleton = -1;
+
+    private static final StaticAccessor POKEDEX_MANAGER_INSTANCE =
+            StaticAccessor.field("com.cobblemon.mod.common.client.ClientPokedexManager", "INSTANCE");
+    private static final StaticAccessor POKEDEX_MANAGER_GETTER =
+            StaticAccessor.method("com.cobblemon.mod.common.client.ClientPokedexManager", "getInstance", "instance");
+    private static final StaticAccessor PROGRESS_CAUGHT =
+            StaticAccessor.field("com.cobblemon.mod.common.api.pokedex.PokedexEntryProgress", "CAUGHT");
+
+    private static final StaticAccessor SPECIES_REGISTRY =
+            StaticAccessor.field("com.cobblemon.mod.common.api.pokemon.PokemonSpecies", "INSTANCE");
+    private static final MethodAccessor REGISTRY_SPECIES = MethodAccessor.of("getSpecies", "species");
+
+    private static final MethodAccessor ENTITY_POKEMON = MethodAccessor.of("getPokemon", "pokemon", "getPokemon$common", "getPokemon$default");
+    private static final FieldAccessor ENTITY_POKEMON_FIELD = FieldAccessor.ofType(Pokemon.class);
+    private static final MethodAccessor ENTITY_OWNER = MethodAccessor.of("getOwnerUUID", "getOwnerUuid", "getOwnerId", "getOwner",
+            "getOriginalTrainerUUID", "getOriginalTrainer");
+    private static final MethodAccessor POKEMON_WILD = MethodAccessor.of("isWild", "getIsWild");
+    private static final MethodAccessor POKEMON_OWNED = MethodAccessor.of("isOwned", "isPlayerOwned", "getIsOwned", "getOwned");
+    private static final MethodAccessor POKEMON_OWNER = MethodAccessor.of("getOwnerUUID", "getOwnerUuid", "getOwnerId", "getOwner",
+            "getOriginalTrainer", "getOriginalTrainerUUID");
+    private static final MethodAccessor OPTIONAL_VALUE = MethodAccessor.of("orElse", "get");
+    private static final MethodAccessor POKEMON_SPECIES = MethodAccessor.of("getSpecies", "species");
+    private static final MethodAccessor SPECIES_DEX_ENTRY = MethodAccessor.of("getPokedexEntry", "pokedexEntry");
+    private static final MethodAccessor SPECIES_SHOWDOWN_ID = MethodAccessor.of("showdownId", "getShowdownId", "id", "getId");
+    private static final MethodAccessor SPECIES_RESOURCE_ID = MethodAccessor.of("resourceIdentifier", "getResourceIdentifier",
+            "resourceLocation", "getResourceLocation", "id", "getId");
+    private static final MethodAccessor CLIENT_POKEDEX = MethodAccessor.of("getClientPokedexManager", "getClientPokedexData");
+    private static final FieldAccessor CLIENT_POKEDEX_FIELD = FieldAccessor.of("clientPokedexManager", "clientPokedexData");
+    private static final MethodAccessor CAUGHT_FORMS = MethodAccessor.withArg("getCaughtForms");
+    private static final MethodAccessor SEEN_FORMS = MethodAccessor.withArg("getEncounteredForms", "getSeenForms");
+    private static final MethodAccessor SPECIES_RECORDS = MethodAccessor.of("getSpeciesRecords", "speciesRecords", "getRecords", "records");
+    private static final FieldAccessor SPECIES_RECORDS_FIELD = FieldAccessor.of("speciesRecords", "records");
+    private static final MethodAccessor SPECIES_RECORD = MethodAccessor.withArg("getSpeciesRecord", "getRecord", "getSpeciesDexRecord");
+    private static final MethodAccessor RECORD_ID = MethodAccessor.of("getId", "id", "getSpeciesId", "speciesId");
+    private static final MethodAccessor RECORD_KNOWLEDGE = MethodAccessor.of("getKnowledge", "getEntryProgress", "getProgress", "knowledge");
+    private static final MethodAccessor RECORD_PROGRESS = MethodAccessor.of("getEntryProgress", "getProgress", "entryProgress", "progress");
+    private static final FieldAccessor RECORD_PROGRESS_FIELD = FieldAccessor.of("entryProgress", "progress");
+    private static final MethodAccessor HAS_AT_LEAST = MethodAccessor.withArg("hasAtLeast");
+    private static final FieldAccessor FORM_RECORDS = FieldAccessor.of("formRecords");
+    private static final MethodAccessor FORM_KNOWLEDGE = MethodAccessor.of("getKnowledge", "knowledge");
+    private static final MethodAccessor POKEMON_FORM = MethodAccessor.of("getForm", "form");
+    private static final MethodAccessor FORM_SHOWDOWN_ID = MethodAccessor.of("formOnlyShowdownId", "getName", "name");
+
+    private static final ClassValue<DiscoveryStatus[]> PROGRESS_BY_ORDINAL = new ClassValue<>() {
+        @Override
+        protected DiscoveryStatus[] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            if (constants == null) return new DiscoveryStatus[0];
+            DiscoveryStatus[] table = new DiscoveryStatus[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                table[i] = mapEntryProgress(((Enum<?>) constants[i]).name());
+            }
+            return table;
+        }
+    };
+
+    /**
+     * @return how many reads fell back to a reflective field scan since startup
+     */
+    public static long fallbacks() {
+        return FALLBACKS.sum();
+    }
+
+    @Override
+    public String name() {
+        return "reflective";
+    }
+
+    @Override
+    public Object clientPokedexManager() {
+        Object cobblemonClient = resolveCobblemonClientSingleton();
+        if (cobblemonClient != null) {
+            Object manager = CLIENT_POKEDEX.invoke(cobblemonClient);
+            if (manager != null) return manager;
+
+            manager = CLIENT_POKEDEX_FIELD.get(cobblemonClient);
+            if (manager != null) return manager;
+        }
+
+        Object instance = POKEDEX_MANAGER_INSTANCE.get();
+        if (instance != null) return instance;
+        return POKEDEX_MANAGER_GETTER.get();
+    }
+
+    @Override
+    public Map<?, ?> speciesRecords(Object pokedexManager) {
+        Object recordsObj = SPECIES_RECORDS.invoke(pokedexManager);
+        if (recordsObj == null) {
+            recordsObj = SPECIES_RECORDS_FIELD.get(pokedexManager);
+        }
+        if (recordsObj instanceof Map<?, ?> records) {
+            return records;
+        }
+        return null;
+    }
+
+    @Override
+    public Object recordSpeciesId(Object record) {
+        return RECORD_ID.invoke(record);
+    }
+
+    /**
+     * Cobblemon 1.7 moved client Pokédex to instanced player data.
+     * We treat a species as CAUGHT if either the species record or any form record has knowledge == CAUGHT,
+     * and as SEEN if either was at least encountered.
+     */
+    @Override
+    public DiscoveryStatus recordStatus(Object speciesDexRecord) {
+        if (speciesDexRecord == null) return DiscoveryStatus.UNKNOWN;
+
+        DiscoveryStatus best = recordKnowledge(speciesDexRecord);
+        if (best == DiscoveryStatus.CAUGHT) return best;
+
+        // Deep fallback: scan formRecords map values and check each FormDexRecord.getKnowledge()
+        Map<?, ?> forms = formRecords(speciesDexRecord);
+        if (forms != null && !forms.isEmpty()) {
+            for (Object v : forms.values()) {
+                DiscoveryStatus form = formStatus(v);
+                if (form == DiscoveryStatus.CAUGHT) return form;
+                if (form == DiscoveryStatus.SEEN) best = form;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public DiscoveryStatus recordKnowledge(Object speciesDexRecord) {
+        if (speciesDexRecord == null) return DiscoveryStatus.UNKNOWN;
+
+        // Fast path: SpeciesDexRecord.getKnowledge()
+        DiscoveryStatus known = progressStatus(RECORD_KNOWLEDGE.invoke(speciesDexRecord));
+        if (known == DiscoveryStatus.CAUGHT) return known;
+
+        // Fallback: hasAtLeast(CAUGHT)
+        Object caughtEnum = PROGRESS_CAUGHT.get();
+        if (caughtEnum != null) {
+            Object hasAtLeast = HAS_AT_LEAST.invoke(speciesDexRecord, caughtEnum);
+            if (hasAtLeast instanceof Boolean b && b) return DiscoveryStatus.CAUGHT;
+        }
+        return known;
+    }
+
+    @Override
+    public Map<?, ?> formRecords(Object speciesDexRecord) {
+        // Reached only when neither the typed adapter nor the accessor mixin could read the private field
+        if (speciesDexRecord == null) return null;
+        FALLBACKS.increment();
+        return FORM_RECORDS.get(speciesDexRecord) instanceof Map<?, ?> forms ? forms : null;
+    }
+
+    @Override
+    public DiscoveryStatus formStatus(Object formDexRecord) {
+        if (formDexRecord == null) return DiscoveryStatus.UNKNOWN;
+        return progressStatus(FORM_KNOWLEDGE.invoke(formDexRecord));
+    }
+
+    @Override
+    public String formId(Object pokemon) {
+        Object form = POKEMON_FORM.invoke(pokemon);
+        Object id = form != null ? FORM_SHOWDOWN_ID.invoke(form) : null;
+        return id != null ? id.toString() : "";
+    }
+
+    @Override
+    public Object pokemon(Object pokemonEntity) {
+        // Prefer direct method name used by Cobblemon
+        Object res = ENTITY_POKEMON.invoke(pokemonEntity);
+        if (res != null) return res;
+
+        // Fallback: look for a field of type Pokemon
+        return ENTITY_POKEMON_FIELD.get(pokemonEntity);
+    }
+
+    @Override
+    public String showdownId(Object pokemon) {
+        return showdownIdOfSpecies(POKEMON_SPECIES.invoke(pokemon));
+    }
+
+    @Override
+    public ResourceLocation speciesIdentifier(Object pokemon) {
+        Object species = POKEMON_SPECIES.invoke(pokemon);
+        ResourceLocation rl = identifierOfSpecies(species);
+        if (rl != null) return rl;
+
+        String showdown = showdownIdOfSpecies(species);
+        if (showdown == null || showdown.isBlank()) return null;
+        if (!showdown.contains(":")) showdown = "cobblemon:" + showdown;
+        return ResourceLocation.tryParse(showdown);
+    }
+
+    @Override
+    public Iterable<?> registeredSpecies() {
+        Object species = REGISTRY_SPECIES.invoke(SPECIES_REGISTRY.get());
+        return species instanceof Iterable<?> iterable ? iterable : null;
+    }
+
+    @Override
+    public ResourceLocation identifierOfSpecies(Object species) {
+        Object rl = SPECIES_RESOURCE_ID.invoke(species);
+        if (rl instanceof ResourceLocation r) return r;
+        return rl != null ? ResourceLocation.tryParse(rl.toString()) : null;
+    }
+
+    @Override
+    public String showdownIdOfSpecies(Object species) {
+        Object id = SPECIES_SHOWDOWN_ID.invoke(species);
+        return id != null ? id.toString() : "";
+    }
+
+    @Override
+    public boolean isWild(Object entity, Object pokemon) {
+        if (!isPokemonWild(pokemon)) return false;
+
+        // Fallback 1: owner can be stored on the entity
+        Object entityOwner = ENTITY_OWNER.invoke(entity);
+        if (entityOwner != null) {
+            String s = entityOwner.toString();
+            if (s != null && !s.isBlank() && !s.equalsIgnoreCase("NONE") && !s.equalsIgnoreCase("null")) {
+                return false;
+            }
+        }
+
+        // Fallback 2: scan fields on the entity for UUID or Optional like wrapper
+        return !hasUuidField(entity);
+    }
+
+    private static boolean isPokemonWild(Object pokemon) {
+        // 1) Si Cobblemon expose déjà un booléen, on le prend
+        Object wildFlag = POKEMON_WILD.invoke(pokemon);
+        if (wildFlag instanceof Boolean b) return b;
+
+        Object ownedFlag = POKEMON_OWNED.invoke(pokemon);
+        if (ownedFlag instanceof Boolean b) return !b;
+
+        // 2) Fallback owner uuid
+        Object owner = POKEMON_OWNER.invoke(pokemon);
+
+        if (owner == null) return true;
+
+        // Optional like
+        Object optVal = OPTIONAL_VALUE.invoke(owner);
+        if (optVal != null) owner = optVal;
+
+        // UUID means owned
+        if (owner instanceof java.util.UUID) return false;
+
+        // Some versions store as string uuid
+        String s = owner.toString();
+        if (s == null) return true;
+
+        if (s.equalsIgnoreCase("NONE") || s.equalsIgnoreCase("null")) return true;
+
+        // If it looks like a UUID, assume owned
+        if (looksLikeUuid(s)) return false;
+
+        // Fallback hard: scan fields for UUID or Optional<UUID>
+        if (hasUuidField(pokemon)) return false;
+
+        // Default conservative
+        return true;
+    }
+
+    /**
+     * True if any field declared on the target's class holds a UUID, directly or through an Optional-like wrapper.
+     */
+    private static boolean hasUuidField(Object target) {
+        if (target == null) return false;
+        FALLBACKS.increment();
+        for (MethodHandle getter : FieldAccessor.declaredGetters(target.getClass())) {
+            Object v = FieldAccessor.read(getter, target);
+            if (v instanceof java.util.UUID) return true;
+
+            // Optional-like wrappers
+            Object optVal = OPTIONAL_VALUE.invoke(v);
+            if (optVal instanceof java.util.UUID) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Canonical 8-4-4-4-12 hex check; avoids UUID.fromString throwing on every non-UUID owner string.
+     */
+    private static boolean looksLikeUuid(String s) {
+        if (s.length() != 36) return false;
+        for (int i = 0; i < 36; i++) {
+            char c = s.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') return false;
+            } else if (Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public DiscoveryStatus discoveryStatus(Object pokemon) {
+        try {
+            Object clientPokedexManager = clientPokedexManager();
+            if (clientPokedexManager == null) return DiscoveryStatus.UNKNOWN;
+
+            Object species = POKEMON_SPECIES.invoke(pokemon);
+            Object entry = null;
+            if (species != null) {
+                entry = SPECIES_DEX_ENTRY.invoke(species);
+            }
+
+            // Any spelling resolves to the canonical identifier through the alias table,
+            // so one RL key and its string form cover what the older string variants did.
+            ResourceLocation speciesId = canonicalIdentifier(pokemon);
+            String rlString = speciesId != null ? speciesId.toString() : null;
+
+// 0) Voie la plus fiable: listes de formes capturées et rencontrées
+// On ajoute des clés "String" car selon les versions Cobblemon,
+// getCaughtForms accepte parfois String et pas l'objet Species ou ResourceLocation.
+            Object[] keys = new Object[]{
+                    entry,
+                    species,
+                    speciesId,
+                    rlString
+            };
+
+// CAUGHT si au moins une forme est capturée
+            for (Object k : keys) {
+                if (k == null) continue;
+
+                Object caughtForms = CAUGHT_FORMS.invoke(clientPokedexManager, k);
+                if (caughtForms instanceof java.util.Collection<?> c && !c.isEmpty()) {
+                    return DiscoveryStatus.CAUGHT;
+                }
+            }
+
+// SEEN si au moins une forme est rencontrée
+            for (Object k : keys) {
+                if (k == null) continue;
+
+                Object seenForms = SEEN_FORMS.invoke(clientPokedexManager, k);
+                if (seenForms instanceof java.util.Collection<?> c && !c.isEmpty()) {
+                    return DiscoveryStatus.SEEN;
+                }
+            }
+
+            Object record = resolveSpeciesRecord(clientPokedexManager, speciesId, species, entry);
+            if (record == null) return DiscoveryStatus.UNKNOWN;
+
+            Object progress = RECORD_PROGRESS.invoke(record);
+            if (progress == null) {
+                progress = RECORD_PROGRESS_FIELD.get(record);
+            }
+            return progressStatus(progress);
+        } catch (Throwable t) {
+            LOGGER.debug("Failed to resolve discovery status", t);
+            return DiscoveryStatus.UNKNOWN;
+        }
+    }
+
+    /**
+     * Resolves the static entry points (client singleton, Pokédex manager accessor, progress constants,
+     * species registry) now instead of on the first render, and reports what was found.
+     */
+    static CobblemonCapabilities probe(String version, String adapterName) {
+        int singleton = -1;
+        for (int i = 0; i < COBBLEMON_CLIENT_SINGLETONS.length && singleton < 0; i++) {
+            if (CLIENT_INSTANCE_FIELDS[i].isPresent() || CLIENT_INSTANCE_METHODS[i].isPresent()) singleton = i;
+        }
+        clientSingleton = singleton;
+
+        boolean pokedexAccessor = POKEDEX_MANAGER_INSTANCE.isPresent() || POKEDEX_MANAGER_GETTER.isPresent();
+        if (singleton >= 0) {
+            Object client = resolveCobblemonClientSingleton();
+            pokedexAccessor |= client != null && CLIENT_POKEDEX.isPresent(client.getClass());
+        }
+
+        Object caught = PROGRESS_CAUGHT.get();
+        boolean progressEnum = caught instanceof Enum<?> e && PROGRESS_BY_ORDINAL.get(e.getDeclaringClass()).length > 0;
+
+        return new CobblemonCapabilities(version, adapterName,
+                singleton >= 0 ? COBBLEMON_CLIENT_SINGLETONS[singleton] : null,
+                pokedexAccessor, progressEnum, SPECIES_REGISTRY.isPresent());
+    }
+
+    private static Object resolveCobblemonClientSingleton() {
+        int probed = clientSingleton;
+        if (probed >= 0) {
+            Object instance = CLIENT_INSTANCE_FIELDS[probed].get();
+            if (instance == null) instance = CLIENT_INSTANCE_METHODS[probed].get();
+            if (instance != null) return instance;
+        }
+        for (int i = 0; i < COBBLEMON_CLIENT_SINGLETONS.length; i++) {
+            Object instance = CLIENT_INSTANCE_FIELDS[i].get();
+            if (instance != null) return instance;
+
+            Object singleton = CLIENT_INSTANCE_METHODS[i].get();
+            if (singleton != null) return singleton;
+        }
+        return null;
+    }
+
+    private Object resolveSpeciesRecord(Object clientPokedexManager, ResourceLocation speciesId, Object species, Object entry) {
+        if (clientPokedexManager == null) return null;
+
+        Object direct = resolveSpeciesRecordDirect(clientPokedexManager, speciesId, species, entry);
+        if (direct != null) return direct;
+
+        Map<?, ?> records = speciesRecords(clientPokedexManager);
+        if (records != null) {
+            Object record = null;
+            if (speciesId != null) {
+                // speciesId is already canonical: records are keyed either by it or by its string form
+                record = records.get(speciesId);
+                if (record != null) return record;
+                record = records.get(speciesId.toString());
+                if (record != null) return record;
+            }
+
+            if (species != null) {
+                record = records.get(species);
+                if (record != null) return record;
+            }
+
+            if (entry != null) {
+                return records.get(entry);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Species identifier of a Pokémon, run through the alias table so every spelling lands on one key.
+     */
+    private ResourceLocation canonicalIdentifier(Object pokemon) {
+        ResourceLocation rl = speciesIdentifier(pokemon);
+        if (rl != null) {
+            ResourceLocation canonical = SpeciesAliases.resolve(rl.toString());
+            if (canonical != null) return canonical;
+            return rl;
+        }
+        return SpeciesAliases.resolve(showdownId(pokemon));
+    }
+
+    private static Object resolveSpeciesRecordDirect(Object clientPokedexManager, ResourceLocation speciesId, Object species, Object entry) {
+        if (entry != null) {
+            Object record = SPECIES_RECORD.invoke(clientPokedexManager, entry);
+            if (record != null) return record;
+        }
+
+        if (species != null) {
+            Object record = SPECIES_RECORD.invoke(clientPokedexManager, species);
+            if (record != null) return record;
+        }
+
+        if (speciesId != null) {
+            Object record = SPECIES_RECORD.invoke(clientPokedexManager, speciesId);
+            if (record != null) return record;
+        }
+
+        return null;
+    }
+
+    /**
+     * Maps a Cobblemon {@code PokedexEntryProgress}. Enum constants go through a per-enum ordinal table, so
+     * the name matching below runs once per constant instead of once per call.
+     */
+    static DiscoveryStatus progressStatus(Object progress) {
+        if (progress instanceof Enum<?> e) {
+            DiscoveryStatus[] byOrdinal = PROGRESS_BY_ORDINAL.get(e.getDeclaringClass());
+            int ordinal = e.ordinal();
+            if (ordinal < byOrdinal.length) return byOrdinal[ordinal];
+        }
+        return mapEntryProgress(progress);
+    }
+
+    static DiscoveryStatus mapEntryProgress(Object progress) {
+        if (progress == null) return DiscoveryStatus.UNKNOWN;
+
+        String normalized = progress.toString().toUpperCase(Locale.ROOT);
+        if (normalized.contains("CAUGHT")) return DiscoveryStatus.CAUGHT;
+        if (normalized.contains("SEEN") || normalized.contains("ENCOUNTERED")) return DiscoveryStatus.SEEN;
+        return DiscoveryStatus.UNKNOWN;
+    }
+}
@@ -0,0 +1,200 @@
+package com.levelscraft7.catchindicator.core.adapter;
+
+import com.cobblemon.mod.common.api.pokedex.AbstractPokedexManager;
+import com.cobblemon.mod.common.api.pokedex.FormDexRecord;
+import com.cobblemon.mod.common.api.pokedex.PokedexEntryProgress;
+import com.cobblemon.mod.common.api.pokedex.SpeciesDexRecord;
+import com.cobblemon.mod.common.api.pokemon.PokemonSpecies;
+import com.cobblemon.mod.common.api.storage.player.client.ClientPokedexManager;
+import com.cobblemon.mod.common.client.CobblemonClient;
+import com.cobblemon.mod.common.entity.pokemon.PokemonEntity;
+import com.cobblemon.mod.common.pokemon.FormData;
+import com.cobblemon.mod.common.pokemon.Pokemon;
+import com.cobblemon.mod.common.pokemon.Species;
+import com.levelscraft7.catchindicator.core.DiscoveryStatus;
+import com.levelscraft7.catchindicator.mixin.accessor.SpeciesDexRecordAccessor;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.Map;
+
+/**
+ * Direct, compiled calls into the Cobblemon API this mod is built against.
+ * <p>
+ * Anything that is not a real Cobblemon type (or a record whose accessor mixin was skipped) is handed to the
+ * reflective fallback, so the typed adapter is never less capable than {@link ReflectiveCobblemonAdapter}.
+ * Chosen by {@link #isLinkable()}, not by version string: every Cobblemon line that still has these members
+ * gets it, and one that moved any of them gets the reflective adapter. A dedicated server only probes the
+ * members it can reach; the client-only ones are never called there.
+ */
+final class TypedCobblemonAdapter implements CobblemonAdapter {
+
+    private final CobblemonAdapter fallback;
+
+    TypedCobblemonAdapter(CobblemonAdapter fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public String name() {
+        return "typed";
+    }
+
+    /**
+     * Checks, without initializing anything, that every member this adapter calls directly exists.
+     *
+     * @param client also check the client-only members; their classes cannot even be inspected on a
+     *               dedicated server
+     */
+    static boolean isLinkable(boolean client) {
+        try {
+            ClassLoader loader = TypedCobblemonAdapter.class.getClassLoader();
+            if (client) {
+                Class.forName("com.cobblemon.mod.common.client.CobblemonClient", false, loader).getMethod("getClientPokedexData");
+                Class.forName("com.cobblemon.mod.common.api.storage.player.client.ClientPokedexManager", false, loader);
+            }
+            Class.forName("com.cobblemon.mod.common.api.pokedex.AbstractPokedexManager", false, loader).getMethod("getSpeciesRecords");
+            Class.forName("com.cobblemon.mod.common.api.pokedex.SpeciesDexRecord", false, loader).getMethod("getKnowledge");
+            Class.forName("com.cobblemon.mod.common.api.pokedex.FormDexRecord", false, loader).getMethod("getKnowledge");
+            Class.forName("com.cobblemon.mod.common.api.pokedex.PokedexEntryProgress", false, loader).getField("CAUGHT");
+            Class.forName("com.cobblemon.mod.common.entity.pokemon.PokemonEntity", false, loader).getMethod("getPokemon");
+            Class<?> pokemon = Class.forName("com.cobblemon.mod.common.pokemon.Pokemon", false, loader);
+            pokemon.getMethod("getSpecies");
+            pokemon.getMethod("getForm");
+            Class.forName("com.cobblemon.mod.common.pokemon.FormData", false, loader).getMethod("formOnlyShowdownId");
+            Class<?> species = Class.forName("com.cobblemon.mod.common.pokemon.Species", false, loader);
+            species.getMethod("showdownId");
+            species.getMethod("getResourceIdentifier");
+            Class.forName("com.cobblemon.mod.common.api.pokemon.PokemonSpecies", false, loader).getMethod("getSpecies");
+            return true;
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    @Override
+    public Object clientPokedexManager() {
+        try {
+            return CobblemonClient.INSTANCE.getClientPokedexData();
+        } catch (RuntimeException notYetSynced) {
+            // lateinit before the first Pokédex sync
+            return null;
+        }
+    }
+
+    @Override
+    public Map<?, ?> speciesRecords(Object pokedexManager) {
+        // The client's and the server's Pokédex both extend it
+        if (pokedexManager instanceof AbstractPokedexManager manager) return manager.getSpeciesRecords();
+        return fallback.speciesRecords(pokedexManager);
+    }
+
+    @Override
+    public Object recordSpeciesId(Object record) {
+        return fallback.recordSpeciesId(record);
+    }
+
+    @Override
+    public DiscoveryStatus recordStatus(Object record) {
+        if (!(record instanceof SpeciesDexRecord species)) return fallback.recordStatus(record);
+        DiscoveryStatus best = status(species.getKnowledge());
+        if (best == DiscoveryStatus.CAUGHT) return best;
+
+        Map<?, ?> forms = formRecords(species);
+        if (forms == null) return best;
+        for (Object form : forms.values()) {
+            DiscoveryStatus status = formStatus(form);
+            if (status == DiscoveryStatus.CAUGHT) return status;
+            if (status == DiscoveryStatus.SEEN) best = status;
+        }
+        return best;
+    }
+
+    @Override
+    public DiscoveryStatus recordKnowledge(Object record) {
+        if (record instanceof SpeciesDexRecord species) return status(species.getKnowledge());
+        return fallback.recordKnowledge(record);
+    }
+
+    @Override
+    public Map<?, ?> formRecords(Object record) {
+        if (!(record instanceof SpeciesDexRecordAccessor accessor)) return fallback.formRecords(record);
+        return accessor.catchindicator$getFormRecords();
+    }
+
+    @Override
+    public DiscoveryStatus formStatus(Object formRecord) {
+        if (formRecord instanceof FormDexRecord form) return status(form.getKnowledge());
+        return fallback.formStatus(formRecord);
+    }
+
+    private static DiscoveryStatus status(PokedexEntryProgress progress) {
+        if (progress == PokedexEntryProgress.CAUGHT) return DiscoveryStatus.CAUGHT;
+        if (progress == PokedexEntryProgress.ENCOUNTERED) return DiscoveryStatus.SEEN;
+        return DiscoveryStatus.UNKNOWN;
+    }
+
+    @Override
+    public Object pokemon(Object entity) {
+        if (entity instanceof PokemonEntity pokemonEntity) return pokemonEntity.getPokemon();
+        return fallback.pokemon(entity);
+    }
+
+    @Override
+    public String showdownId(Object pokemon) {
+        if (!(pokemon instanceof Pokemon p)) return fallback.showdownId(pokemon);
+        Species species = p.getSpecies();
+        return species != null ? species.showdownId() : "";
+    }
+
+    @Override
+    public String formId(Object pokemon) {
+        if (!(pokemon instanceof Pokemon p)) return fallback.formId(pokemon);
+        FormData form = p.getForm();
+        return form != null ? form.formOnlyShowdownId() : "";
+    }
+
+    @Override
+    public ResourceLocation speciesIdentifier(Object pokemon) {
+        if (!(pokemon instanceof Pokemon p)) return fallback.speciesIdentifier(pokemon);
+        Species species = p.getSpecies();
+        return species != null ? species.getResourceIdentifier() : null;
+    }
+
+    @Override
+    public boolean isWild(Object entity, Object pokemon) {
+        // The owner UUID is synced entity data on the client; no owner means wild.
+        if (entity instanceof PokemonEntity pokemonEntity) return pokemonEntity.getOwnerUUID() == null;
+        return fallback.isWild(entity, pokemon);
+    }
+
+    @Override
+    public Iterable<?> registeredSpecies() {
+        try {
+            return PokemonSpecies.INSTANCE.getSpecies();
+        } catch (RuntimeException notYetLoaded) {
+            return fallback.registeredSpecies();
+        }
+    }
+
+    @Override
+    public ResourceLocation identifierOfSpecies(Object species) {
+        if (species instanceof Species s) return s.getResourceIdentifier();
+        return fallback.identifierOfSpecies(species);
+    }
+
+    @Override
+    public String showdownIdOfSpecies(Object species) {
+        if (species instanceof Species s) return s.showdownId();
+        return fallback.showdownIdOfSpecies(species);
+    }
+
+    @Override
+    public DiscoveryStatus discoveryStatus(Object pokemon) {
+        ResourceLocation speciesId = speciesIdentifier(pokemon);
+        Object manager = clientPokedexManager();
+        if (speciesId == null || !(manager instanceof ClientPokedexManager pokedex)) return fallback.discoveryStatus(pokemon);
+
+        SpeciesDexRecord record = pokedex.getSpeciesRecords().get(speciesId);
+        return record != null ? recordStatus(record) : DiscoveryStatus.UNKNOWN;
+    }
+}
@@ -0,0 +1,25 @@
+package com.levelscraft7.catchindicator.mixin;
+
+import com.levelscraft7.catchindicator.client.TrackedPokemonRegistry;
+import net.minecraft.world.entity.Entity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Feeds {@link TrackedPokemonRegistry} from the client level's own entity tracking.
+ */
+@Mixin(targets = "net.minecraft.client.multiplayer.ClientLevel$EntityCallbacks")
+public class ClientLevelEntityCallbacksMixin {
+
+    @Inject(method = "onTrackingStart(Lnet/minecraft/world/entity/Entity;)V", at = @At("TAIL"))
+    private void catchindicator$onTrackingStart(Entity entity, CallbackInfo ci) {
+        TrackedPokemonRegistry.onTrackingStart(entity);
+    }
+
+    @Inject(method = "onTrackingEnd(Lnet/minecraft/world/entity/Entity;)V", at = @At("TAIL"))
+    private void catchindicator$onTrackingEnd(Entity entity, CallbackInfo ci) {
+        TrackedPokemonRegistry.onTrackingEnd(entity);
+    }
+}
@@ -0,0 +1,27 @@
+package com.levelscraft7.catchindicator.mixin;
+
+import com.levelscraft7.catchindicator.client.OwnershipCache;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientPacketListener;
+import net.minecraft.network.protocol.game.ClientboundSetEntityDataPacket;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Drops the cached wild/owned flag of an entity when its synced owner changes.
+ * <p>
+ * TAIL only: the handler first bounces itself from the network thread to the client thread, so the tail
+ * is reached once, on the client thread, after the new values were assigned.
+ */
+@Mixin(ClientPacketListener.class)
+public class ClientPacketListenerMixin {
+
+    @Inject(method = "handleSetEntityData", at = @At("TAIL"))
+    private void catchindicator$afterSetEntityData(ClientboundSetEntityDataPacket packet, CallbackInfo ci) {
+        Minecraft mc = Minecraft.getInstance();
+        if (mc.level == null) return;
+        OwnershipCache.onEntityDataUpdate(mc.level.getEntity(packet.id()), packet.packedItems());
+    }
+}
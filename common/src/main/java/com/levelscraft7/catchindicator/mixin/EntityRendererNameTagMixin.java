@@ -0,0 +1,60 @@
+package com.levelscraft7.catchindicator.mixin;
+
+import com.cobblemon.mod.common.entity.pokemon.PokemonEntity;
+import com.levelscraft7.catchindicator.client.NametagDecorationCache;
+import com.levelscraft7.catchindicator.client.NametagDecorator;
+import com.levelscraft7.catchindicator.client.render.IndicatorRenderer;
+import com.mojang.blaze3d.vertex.PoseStack;
+import net.minecraft.client.gui.Font;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.entity.EntityRenderDispatcher;
+import net.minecraft.client.renderer.entity.EntityRenderer;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.Entity;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.ModifyArg;
+
+/**
+ * Client-side: decorates the Pokémon name only where the in-world nametag is drawn.
+ * <p>
+ * Hooked at the {@code renderNameTag} call in {@link EntityRenderer#render} rather than inside
+ * {@code renderNameTag}, so it still applies when a renderer overrides the latter. {@code getName()} and
+ * {@code getDisplayName()} stay vanilla for every other caller (chat, death messages, narration, teams,
+ * other mods); UI that wants the decorated name opts in through {@link NametagDecorator#decoratedName}.
+ * <p>
+ * With batched icons on, the nametag gets the plain label and the icon goes to {@link IndicatorRenderer};
+ * otherwise the icon is composed into the name as a font glyph.
+ */
+@Mixin(EntityRenderer.class)
+public abstract class EntityRendererNameTagMixin {
+
+    @Shadow
+    @Final
+    protected EntityRenderDispatcher entityRenderDispatcher;
+
+    @Shadow
+    public abstract Font getFont();
+
+    @ModifyArg(
+            method = "render",
+            at = @At(
+                    value = "INVOKE",
+                    target = "Lnet/minecraft/client/renderer/entity/EntityRenderer;renderNameTag(Lnet/minecraft/world/entity/Entity;Lnet/minecraft/network/chat/Component;Lcom/mojang/blaze3d/vertex/PoseStack;Lnet/minecraft/client/renderer/MultiBufferSource;IF)V"
+            ),
+            index = 1
+    )
+    private Component catchindicator$decorateNameTag(Entity entity, Component displayName, PoseStack poseStack,
+                                                    MultiBufferSource bufferSource, int packedLight, float partialTick) {
+        if (!(entity instanceof PokemonEntity)) return displayName;
+        if (!IndicatorRenderer.isEnabled()) return NametagDecorator.decorate(entity, displayName);
+
+        NametagDecorationCache.Entry entry = NametagDecorator.entry(entity, displayName);
+        if (entry == null) return displayName;
+        IndicatorRenderer.collect(entityRenderDispatcher, getFont(), entity, entry.label(), entry.icon(),
+                poseStack, packedLight, partialTick);
+        return entry.label();
+    }
+}
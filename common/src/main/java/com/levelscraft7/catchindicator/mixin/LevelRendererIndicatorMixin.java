@@ -0,0 +1,29 @@
+package com.levelscraft7.catchindicator.mixin;
+
+import com.levelscraft7.catchindicator.client.render.IndicatorRenderer;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.LevelRenderer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Client-side: draws the indicator icons collected during entity rendering, right before the entity
+ * buffers are flushed, so they share the entity pass's camera and depth state.
+ */
+@Mixin(LevelRenderer.class)
+public abstract class LevelRendererIndicatorMixin {
+
+    @Inject(
+            method = "renderLevel",
+            at = @At(
+                    value = "INVOKE",
+                    target = "Lnet/minecraft/client/renderer/MultiBufferSource$BufferSource;endLastBatch()V",
+                    ordinal = 0
+            )
+    )
+    private void catchindicator$flushIndicators(CallbackInfo ci) {
+        IndicatorRenderer.flush(Minecraft.getInstance().renderBuffers().bufferSource());
+    }
+}
@@ -0,0 +1,26 @@
+package com.levelscraft7.catchindicator.mixin;
+
+import com.cobblemon.mod.common.entity.pokemon.PokemonEntity;
+import com.levelscraft7.catchindicator.client.TrackedPokemonRegistry;
+import net.minecraft.world.entity.Entity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Client-side: keeps the positions in {@link TrackedPokemonRegistry} current. Hooked on the Pokémon's own
+ * tick, so other entities never reach it; movement packets, interpolation and teleports have all landed by
+ * its end.
+ */
+@Mixin(PokemonEntity.class)
+public abstract class PokemonEntityTickMixin {
+
+    @Inject(method = "tick", at = @At("TAIL"))
+    private void catchindicator$onTick(CallbackInfo ci) {
+        Entity self = (Entity) (Object) this;
+        // Integrated server Pokémon tick in the same JVM
+        if (!self.level().isClientSide()) return;
+        TrackedPokemonRegistry.onMove(self);
+    }
+}
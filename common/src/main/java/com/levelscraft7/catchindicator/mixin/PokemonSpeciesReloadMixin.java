@@ -0,0 +1,22 @@
+package com.levelscraft7.catchindicator.mixin;
+
+import com.levelscraft7.catchindicator.core.SpeciesAliases;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Pseudo;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Species data can change on every datapack reload or server join: drop the alias table so it is rebuilt
+ * from the fresh registry on the next client tick.
+ */
+@Pseudo
+@Mixin(targets = "com.cobblemon.mod.common.api.pokemon.PokemonSpecies", remap = false)
+public class PokemonSpeciesReloadMixin {
+
+    @Inject(method = "reload", at = @At("TAIL"), remap = false, require = 0)
+    private void catchindicator$afterReload(CallbackInfo ci) {
+        SpeciesAliases.invalidate();
+    }
+}
@@ -0,0 +1,21 @@
+package com.levelscraft7.catchindicator.mixin.accessor;
+
+import com.cobblemon.mod.common.api.pokedex.FormDexRecord;
+import com.cobblemon.mod.common.api.pokedex.SpeciesDexRecord;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import java.util.Map;
+
+/**
+ * Typed access to the per-form knowledge Cobblemon keeps private on {@link SpeciesDexRecord}.
+ * <p>
+ * Only applied when the field exists on the installed Cobblemon (see {@code CatchIndicatorMixinPlugin});
+ * callers must check {@code instanceof} before casting.
+ */
+@Mixin(value = SpeciesDexRecord.class, remap = false)
+public interface SpeciesDexRecordAccessor {
+
+    @Accessor(value = "formRecords", remap = false)
+    Map<String, FormDexRecord> catchindicator$getFormRecords();
+}
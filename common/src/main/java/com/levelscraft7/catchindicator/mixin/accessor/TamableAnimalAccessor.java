@@ -0,0 +1,22 @@
+package com.levelscraft7.catchindicator.mixin.accessor;
+
+import net.minecraft.network.syncher.EntityDataAccessor;
+import net.minecraft.world.entity.TamableAnimal;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * The synced owner slot of tamable entities, which Pokémon entities are: lets {@code ClientPacketListenerMixin}
+ * tell an ownership change from the pose and behaviour updates Cobblemon sends all the time.
+ */
+@Mixin(TamableAnimal.class)
+public interface TamableAnimalAccessor {
+
+    @Accessor("DATA_OWNERUUID_ID")
+    static EntityDataAccessor<Optional<UUID>> catchindicator$ownerUuidData() {
+        throw new AssertionError();
+    }
+}
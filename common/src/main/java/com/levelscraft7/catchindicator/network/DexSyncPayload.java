@@ -0,0 +1,84 @@
+package com.levelscraft7.catchindicator.network;
+
+import com.levelscraft7.catchindicator.CatchIndicator;
+import io.netty.handler.codec.DecoderException;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Server to client: the player's Pokédex as a sparse, delta-encoded bitset, sent by the server companion
+ * ({@link com.levelscraft7.catchindicator.server.DexCompanion}).
+ * <p>
+ * The server numbers species and forms per connection. Each payload first appends the keys it numbers for
+ * the first time ({@code cobblemon:vulpix}, {@code cobblemon:vulpix/alola}) to the client's dictionary,
+ * then lists the entries whose flags changed since the previous payload, ids ascending and gap-encoded:
+ * <pre>
+ * boolean full                               true: the entries are the whole state
+ * varint  first new id, varint key count, utf key*
+ * varint  entry count, (varint id gap, byte flags)*   flags: 1 = caught, 2 = seen, 0 = neither
+ * </pre>
+ */
+public record DexSyncPayload(boolean full, int firstNewId, List<String> newKeys, int[] ids, byte[] flags)
+        implements CustomPacketPayload {
+
+    public static final Type<DexSyncPayload> TYPE =
+            new Type<>(ResourceLocation.fromNamespaceAndPath(CatchIndicator.MOD_ID, "dex"));
+    public static final StreamCodec<FriendlyByteBuf, DexSyncPayload> STREAM_CODEC =
+            CustomPacketPayload.codec(DexSyncPayload::write, DexSyncPayload::read);
+
+    public static final byte FLAG_CAUGHT = 1;
+    public static final byte FLAG_SEEN = 2;
+    public static final char FORM_SEPARATOR = '/';
+
+    private static final int MAX_KEY_LENGTH = 256;
+    private static final int MAX_ENTRIES = 1 << 17;
+
+    @Override
+    public Type<DexSyncPayload> type() {
+        return TYPE;
+    }
+
+    private void write(FriendlyByteBuf buf) {
+        buf.writeBoolean(full);
+        buf.writeVarInt(firstNewId);
+        buf.writeVarInt(newKeys.size());
+        for (String key : newKeys) buf.writeUtf(key, MAX_KEY_LENGTH);
+        buf.writeVarInt(ids.length);
+        int previous = -1;
+        for (int i = 0; i < ids.length; i++) {
+            buf.writeVarInt(ids[i] - previous);
+            buf.writeByte(flags[i]);
+            previous = ids[i];
+        }
+    }
+
+    private static DexSyncPayload read(FriendlyByteBuf buf) {
+        boolean full = buf.readBoolean();
+        int firstNewId = buf.readVarInt();
+        int keyCount = checkCount(buf.readVarInt());
+        List<String> newKeys = new ArrayList<>(keyCount);
+        for (int i = 0; i < keyCount; i++) newKeys.add(buf.readUtf(MAX_KEY_LENGTH));
+        int entryCount = checkCount(buf.readVarInt());
+        int[] ids = new int[entryCount];
+        byte[] flags = new byte[entryCount];
+        int previous = -1;
+        for (int i = 0; i < entryCount; i++) {
+            int gap = buf.readVarInt();
+            if (gap <= 0) throw new DecoderException("catchindicator:dex entries out of order");
+            previous += gap;
+            ids[i] = previous;
+            flags[i] = buf.readByte();
+        }
+        return new DexSyncPayload(full, firstNewId, newKeys, ids, flags);
+    }
+
+    private static int checkCount(int count) {
+        if (count < 0 || count > MAX_ENTRIES) throw new DecoderException("catchindicator:dex count out of range: " + count);
+        return count;
+    }
+}
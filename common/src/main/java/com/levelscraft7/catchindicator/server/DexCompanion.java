@@ -0,0 +1,242 @@
+package com.levelscraft7.catchindicator.server;
+
+import com.levelscraft7.catchindicator.core.DiscoveryStatus;
+import com.levelscraft7.catchindicator.core.MethodAccessor;
+import com.levelscraft7.catchindicator.core.StaticAccessor;
+import com.levelscraft7.catchindicator.core.adapter.CobblemonAdapter;
+import com.levelscraft7.catchindicator.core.adapter.CobblemonAdapters;
+import com.levelscraft7.catchindicator.network.DexSyncPayload;
+import dev.architectury.event.events.common.PlayerEvent;
+import dev.architectury.event.events.common.TickEvent;
+import dev.architectury.networking.NetworkManager;
+import dev.architectury.platform.Platform;
+import dev.architectury.utils.Env;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Server side of the dex channel: reads each player's Pokédex on the server and pushes it to clients that
+ * have CatchIndicator, as {@link DexSyncPayload} deltas. Those clients then stop scanning Cobblemon's client
+ * Pokédex; players without the mod, and servers without it, keep the client-only path.
+ * <p>
+ * A player's Pokédex is read once when they join, then again only after Cobblemon reports a change to it
+ * ({@code CobblemonEvents.POKEDEX_DATA_CHANGED_POST}); clean players cost nothing. Reads are batched: dirty
+ * players are looked at every {@value #POLL_INTERVAL_TICKS} ticks, spread over the interval by entity id, and
+ * a payload goes out only when something changed. A Cobblemon without that event gets every player read at
+ * that pace instead. Runs on the server thread, except the change listener.
+ */
+public final class DexCompanion {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("catchindicator");
+    private static final int POLL_INTERVAL_TICKS = 20;
+
+    private static final StaticAccessor COBBLEMON = StaticAccessor.field("com.cobblemon.mod.common.Cobblemon", "INSTANCE");
+    private static final MethodAccessor PLAYER_DATA_MANAGER = MethodAccessor.of("getPlayerDataManager", "playerDataManager");
+    private static final MethodAccessor POKEDEX_DATA = MethodAccessor.withArg("getPokedexData");
+    private static final StaticAccessor DEX_CHANGED =
+            StaticAccessor.field("com.cobblemon.mod.common.api.events.CobblemonEvents", "POKEDEX_DATA_CHANGED_POST");
+    private static final MethodAccessor EVENT_PLAYER = MethodAccessor.of("getPlayerUUID", "getPlayerUuid", "getPlayerId");
+
+    private static final Map<UUID, PlayerState> PLAYERS = new HashMap<>();
+    // Players whose Pokédex changed since it was last read; written by the change listener
+    private static final Set<UUID> DIRTY = ConcurrentHashMap.newKeySet();
+    // False when Cobblemon has no change event to listen to: every player is then read at each poll
+    private static boolean listening;
+
+    private DexCompanion() {
+    }
+
+    public static void init() {
+        // Clients register the type with their receiver; a dedicated server has to declare it itself
+        if (Platform.getEnvironment() == Env.SERVER) {
+            NetworkManager.registerS2CPayloadType(DexSyncPayload.TYPE, DexSyncPayload.STREAM_CODEC);
+        }
+        listening = listenForChanges();
+        if (!listening) LOGGER.info("Cobblemon has no Pokédex change event, polling every player's Pokédex");
+        TickEvent.SERVER_POST.register(DexCompanion::tick);
+        PlayerEvent.PLAYER_QUIT.register(player -> {
+            PLAYERS.remove(player.getUUID());
+            DIRTY.remove(player.getUUID());
+        });
+    }
+
+    /**
+     * Subscribes to Cobblemon's Pokédex change event. Cobblemon's observables take a Kotlin function, which
+     * this project does not compile against, so the handler is a proxy of it.
+     *
+     * @return whether the subscription went through
+     */
+    private static boolean listenForChanges() {
+        Object observable = DEX_CHANGED.get();
+        if (observable == null) return false;
+        try {
+            ClassLoader loader = observable.getClass().getClassLoader();
+            Class<?> function = Class.forName("kotlin.jvm.functions.Function1", false, loader);
+            Class<?> priority = Class.forName("com.cobblemon.mod.common.api.Priority", false, loader);
+            Object normal = priority.getField("NORMAL").get(null);
+            Object unit = Class.forName("kotlin.Unit", false, loader).getField("INSTANCE").get(null);
+            Object handler = Proxy.newProxyInstance(loader, new Class<?>[]{function}, (proxy, method, args) -> switch (method.getName()) {
+                case "invoke" -> {
+                    if (EVENT_PLAYER.invoke(args[0]) instanceof UUID player) DIRTY.add(player);
+                    yield unit;
+                }
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> "CatchIndicator Pokédex listener";
+            });
+            observable.getClass().getMethod("subscribe", priority, function).invoke(observable, normal, handler);
+            return true;
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            LOGGER.debug("cannot subscribe to Cobblemon's Pokédex change event", e);
+            return false;
+        }
+    }
+
+    private static void tick(MinecraftServer server) {
+        int tick = server.getTickCount();
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            if (Math.floorMod(tick + player.getId(), POLL_INTERVAL_TICKS) != 0) continue;
+            if (!NetworkManager.canPlayerReceive(player, DexSyncPayload.TYPE)) continue;
+
+            // Cleared before the read, so a change made while reading marks the player again
+            UUID id = player.getUUID();
+            PlayerState state = PLAYERS.get(id);
+            if (!DIRTY.remove(id) && state != null && listening) continue;
+
+            CobblemonAdapter adapter = CobblemonAdapters.get();
+            Map<?, ?> records = adapter.speciesRecords(pokedexOf(player));
+            if (records == null) {
+                if (state != null) DIRTY.add(id);
+                continue;
+            }
+
+            if (state == null) {
+                state = new PlayerState();
+                PLAYERS.put(id, state);
+            }
+            DexSyncPayload payload = state.diff(adapter, records);
+            if (payload != null) NetworkManager.sendToPlayer(player, payload);
+        }
+    }
+
+    private static Object pokedexOf(ServerPlayer player) {
+        Object manager = PLAYER_DATA_MANAGER.invoke(COBBLEMON.get());
+        return manager != null ? POKEDEX_DATA.invoke(manager, player) : null;
+    }
+
+    /**
+     * What one player's client has been sent: its key numbering and the last flags per key.
+     */
+    static final class PlayerState {
+        // Record key -> the ids of its species and forms, so a read builds no key strings for known entries
+        private final Map<Object, Keys> keys = new HashMap<>();
+        private int nextId;
+        private BitSet caught = new BitSet();
+        private BitSet seen = new BitSet();
+        // Filled by each read, then swapped with the two above
+        private BitSet nowCaught = new BitSet();
+        private BitSet nowSeen = new BitSet();
+        private boolean sentFull;
+
+        /**
+         * The ids of one species record and of its forms, numbered on first sight.
+         */
+        private static final class Keys {
+            final String species;
+            int id = -1;
+            Map<Object, Integer> forms;
+
+            Keys(String species) {
+                this.species = species;
+            }
+        }
+
+        /**
+         * @return the payload bringing the client up to date, or {@code null} when it already is
+         */
+        DexSyncPayload diff(CobblemonAdapter adapter, Map<?, ?> records) {
+            int firstNewId = nextId;
+            List<String> newKeys = new ArrayList<>();
+            BitSet nowCaught = this.nowCaught;
+            BitSet nowSeen = this.nowSeen;
+            nowCaught.clear();
+            nowSeen.clear();
+
+            for (Map.Entry<?, ?> entry : records.entrySet()) {
+                if (entry.getKey() == null || entry.getValue() == null) continue;
+                Keys species = keys.computeIfAbsent(entry.getKey(), key -> new Keys(key.toString()));
+                DiscoveryStatus best = adapter.recordKnowledge(entry.getValue());
+
+                Map<?, ?> forms = adapter.formRecords(entry.getValue());
+                if (forms != null) {
+                    for (Map.Entry<?, ?> form : forms.entrySet()) {
+                        DiscoveryStatus status = adapter.formStatus(form.getValue());
+                        if (status == DiscoveryStatus.UNKNOWN) continue;
+                        mark(formId(species, form.getKey(), newKeys), status, nowCaught, nowSeen);
+                        if (status == DiscoveryStatus.CAUGHT || best == DiscoveryStatus.UNKNOWN) best = status;
+                    }
+                }
+                if (best != DiscoveryStatus.UNKNOWN) mark(speciesId(species, newKeys), best, nowCaught, nowSeen);
+            }
+
+            // The previous flags are not needed past this point: the XORs run in place
+            BitSet changed = caught;
+            changed.xor(nowCaught);
+            seen.xor(nowSeen);
+            changed.or(seen);
+            this.nowCaught = caught;
+            this.nowSeen = seen;
+            caught = nowCaught;
+            seen = nowSeen;
+            if (sentFull && changed.isEmpty() && newKeys.isEmpty()) return null;
+
+            // Against a fresh state, the first payload's changes are the whole state
+            int[] entryIds = changed.stream().toArray();
+            byte[] flags = new byte[entryIds.length];
+            for (int i = 0; i < entryIds.length; i++) {
+                int id = entryIds[i];
+                flags[i] = (byte) ((nowCaught.get(id) ? DexSyncPayload.FLAG_CAUGHT : 0) | (nowSeen.get(id) ? DexSyncPayload.FLAG_SEEN : 0));
+            }
+
+            boolean full = !sentFull;
+            sentFull = true;
+            return new DexSyncPayload(full, firstNewId, newKeys, entryIds, flags);
+        }
+
+        private int speciesId(Keys species, List<String> newKeys) {
+            if (species.id < 0) species.id = number(species.species, newKeys);
+            return species.id;
+        }
+
+        private int formId(Keys species, Object form, List<String> newKeys) {
+            if (species.forms == null) species.forms = new HashMap<>(4);
+            Integer id = species.forms.get(form);
+            if (id == null) {
+                id = number(species.species + DexSyncPayload.FORM_SEPARATOR + form, newKeys);
+                species.forms.put(form, id);
+            }
+            return id;
+        }
+
+        private int number(String key, List<String> newKeys) {
+            newKeys.add(key);
+            return nextId++;
+        }
+
+        private static void mark(int id, DiscoveryStatus status, BitSet caught, BitSet seen) {
+            (status == DiscoveryStatus.CAUGHT ? caught : seen).set(id);
+        }
+    }
+}
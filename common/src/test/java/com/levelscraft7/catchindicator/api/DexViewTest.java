@@ -0,0 +1,46 @@
+package com.levelscraft7.catchindicator.api;
+
+import com.levelscraft7.catchindicator.client.PokedexRefreshManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DexViewTest {
+
+    @BeforeEach
+    @AfterEach
+    void reset() {
+        PokedexRefreshManager.endSession();
+    }
+
+    @Test
+    void viewKeepsItsSessionsNamesAcrossEndSession() {
+        PokedexRefreshManager.markSpeciesCaught("cobblemon:bulbasaur");
+        DexView before = CatchIndicatorApi.snapshot();
+
+        PokedexRefreshManager.endSession();
+        // Takes the first id of the new session, the one bulbasaur had in the old one
+        PokedexRefreshManager.markSpeciesSeen("cobblemon:charmander");
+
+        assertEquals(CatchStatus.CAUGHT, before.statusOf("bulbasaur"));
+        assertEquals(CatchStatus.UNKNOWN, before.statusOf("charmander"));
+        assertEquals(List.of("cobblemon:bulbasaur"), before.caught());
+        assertEquals(List.of(), before.seen());
+
+        DexView after = CatchIndicatorApi.snapshot();
+        assertEquals(CatchStatus.UNKNOWN, after.statusOf("bulbasaur"));
+        assertEquals(CatchStatus.SEEN, after.statusOf("charmander"));
+    }
+
+    @Test
+    void endSessionStartsTheNextSession() {
+        int session = PokedexRefreshManager.sessionCount();
+        PokedexRefreshManager.endSession();
+        assertEquals(session + 1, PokedexRefreshManager.sessionCount());
+        assertEquals(0, PokedexRefreshManager.speciesCount());
+    }
+}
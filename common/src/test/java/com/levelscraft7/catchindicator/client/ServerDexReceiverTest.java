@@ -0,0 +1,83 @@
+package com.levelscraft7.catchindicator.client;
+
+import com.levelscraft7.catchindicator.core.DiscoveryStatus;
+import com.levelscraft7.catchindicator.network.DexSyncPayload;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServerDexReceiverTest {
+
+    private static final String BULBASAUR = "cobblemon:bulbasaur";
+    private static final String IVYSAUR = "cobblemon:ivysaur";
+
+    @BeforeEach
+    @AfterEach
+    void endSession() {
+        ServerDexReceiver.reset();
+        PokedexRefreshManager.endSession();
+    }
+
+    @Test
+    void emptyDexThenFirstCatchStaysInStep() {
+        ServerDexReceiver.apply(new DexSyncPayload(true, 0, List.of(), new int[0], new byte[0]));
+        assertTrue(ServerDexReceiver.isInStep());
+        assertTrue(PokedexRefreshManager.isServerAuthoritative());
+
+        ServerDexReceiver.apply(caught(0, BULBASAUR));
+        assertTrue(ServerDexReceiver.isInStep());
+        assertTrue(PokedexRefreshManager.isServerAuthoritative());
+        assertEquals(DiscoveryStatus.CAUGHT, PokedexRefreshManager.knownStatus(BULBASAUR));
+    }
+
+    @Test
+    void deltasContinueTheDictionary() {
+        ServerDexReceiver.apply(new DexSyncPayload(true, 0, List.of(BULBASAUR), new int[]{0},
+                new byte[]{DexSyncPayload.FLAG_SEEN}));
+        ServerDexReceiver.apply(caught(1, IVYSAUR));
+        assertTrue(ServerDexReceiver.isInStep());
+        assertEquals(DiscoveryStatus.SEEN, PokedexRefreshManager.knownStatus(BULBASAUR));
+        assertEquals(DiscoveryStatus.CAUGHT, PokedexRefreshManager.knownStatus(IVYSAUR));
+    }
+
+    @Test
+    void deltaBeforeTheFullPayloadLeavesTheChannel() {
+        ServerDexReceiver.apply(caught(0, BULBASAUR));
+        assertFalse(ServerDexReceiver.isInStep());
+        assertFalse(PokedexRefreshManager.isServerAuthoritative());
+    }
+
+    @Test
+    void secondFullPayloadLeavesTheChannel() {
+        ServerDexReceiver.apply(new DexSyncPayload(true, 0, List.of(), new int[0], new byte[0]));
+        ServerDexReceiver.apply(new DexSyncPayload(true, 0, List.of(), new int[0], new byte[0]));
+        assertFalse(ServerDexReceiver.isInStep());
+        assertFalse(PokedexRefreshManager.isServerAuthoritative());
+    }
+
+    @Test
+    void gapInTheDictionaryLeavesTheChannel() {
+        ServerDexReceiver.apply(new DexSyncPayload(true, 0, List.of(BULBASAUR), new int[0], new byte[0]));
+        ServerDexReceiver.apply(caught(2, IVYSAUR));
+        assertFalse(ServerDexReceiver.isInStep());
+    }
+
+    @Test
+    void resetAcceptsAFreshFullPayload() {
+        ServerDexReceiver.apply(new DexSyncPayload(true, 0, List.of(), new int[0], new byte[0]));
+        ServerDexReceiver.reset();
+        ServerDexReceiver.apply(new DexSyncPayload(true, 0, List.of(), new int[0], new byte[0]));
+        assertTrue(ServerDexReceiver.isInStep());
+    }
+
+    private static DexSyncPayload caught(int firstNewId, String key) {
+        return new DexSyncPayload(false, firstNewId, List.of(key), new int[]{firstNewId},
+                new byte[]{DexSyncPayload.FLAG_CAUGHT | DexSyncPayload.FLAG_SEEN});
+    }
+}
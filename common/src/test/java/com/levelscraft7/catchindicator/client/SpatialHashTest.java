@@ -0,0 +1,187 @@
+package com.levelscraft7.catchindicator.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link SpatialHash#nearest} on simulated Pokémon positions against a brute-force scan of the same world,
+ * through spawns, movement and despawns, plus the cost bound (columns visited).
+ */
+class SpatialHashTest {
+
+    private static final long SEED = 0x5EED_CA7CL;
+    private static final int SPECIES = 400;
+    private static final int ENTITIES = 3000;
+    private static final double WORLD = 1024.0;
+    private static final double RADIUS = 48.0;
+    private static final int LIMIT = 5;
+    private static final int QUERIES = 500;
+    private static final double EPSILON = 1e-9;
+
+    private final Random random = new Random(SEED);
+    private final SpatialHash<Mon> hash = new SpatialHash<>();
+    private final List<Mon> world = new ArrayList<>();
+    private final BitSet caught = new BitSet();
+    private final IntPredicate uncaught = id -> id >= 0 && !caught.get(id);
+
+    private static final class Mon {
+        double x, y, z;
+        int species;
+    }
+
+    @BeforeEach
+    void populate() {
+        for (int id = 0; id < SPECIES; id += 2) {
+            caught.set(id);
+        }
+        for (int i = 0; i < ENTITIES; i++) {
+            Mon mon = new Mon();
+            mon.x = random.nextDouble() * WORLD - WORLD / 2;
+            mon.y = 60 + random.nextDouble() * 20;
+            mon.z = random.nextDouble() * WORLD - WORLD / 2;
+            // A few unresolved species, which never show up
+            mon.species = random.nextInt(50) == 0 ? -1 : random.nextInt(SPECIES);
+            world.add(mon);
+            hash.put(mon, mon.x, mon.y, mon.z, mon.species);
+        }
+    }
+
+    @Test
+    void matchesBruteForceAfterSpawns() {
+        assertEquals(ENTITIES, hash.size());
+        compare();
+    }
+
+    @Test
+    void matchesBruteForceAfterMovesAndRetags() {
+        for (int step = 0; step < 20; step++) {
+            for (Mon mon : world) {
+                mon.x += random.nextGaussian() * 3;
+                mon.y += random.nextGaussian() * 0.5;
+                mon.z += random.nextGaussian() * 3;
+                hash.move(mon, mon.x, mon.y, mon.z);
+            }
+        }
+        // Evolutions re-tag entities in place
+        for (int i = 0; i < world.size(); i += 17) {
+            Mon mon = world.get(i);
+            mon.species = random.nextInt(SPECIES);
+            hash.setSpecies(mon, mon.species);
+        }
+        compare();
+    }
+
+    @Test
+    void matchesBruteForceAfterDespawns() {
+        List<Mon> kept = new ArrayList<>(world.size());
+        for (Mon mon : world) {
+            if (random.nextInt(10) == 0) {
+                hash.remove(mon);
+            } else {
+                kept.add(mon);
+            }
+        }
+        world.clear();
+        world.addAll(kept);
+        assertEquals(world.size(), hash.size());
+        compare();
+    }
+
+    @Test
+    void staysWithinTheColumnBound() {
+        int maxRing = (int) Math.ceil(RADIUS / 16);
+        int bound = (2 * maxRing + 1) * (2 * maxRing + 1);
+        List<Mon> found = new ArrayList<>();
+        for (int q = 0; q < QUERIES; q++) {
+            hash.nearest(random.nextDouble() * WORLD - WORLD / 2, 70, random.nextDouble() * WORLD - WORLD / 2,
+                    RADIUS, LIMIT, uncaught, (q & 1) == 0, found);
+            assertTrue(hash.cellsVisited() <= bound, "query " + q + " visited " + hash.cellsVisited() + " columns");
+        }
+    }
+
+    @Test
+    void returnsUncaughtOnlyAndOnePerSpeciesWhenDistinct() {
+        List<Mon> found = new ArrayList<>();
+        for (int q = 0; q < QUERIES; q++) {
+            hash.nearest(random.nextDouble() * WORLD - WORLD / 2, 70, random.nextDouble() * WORLD - WORLD / 2,
+                    RADIUS, LIMIT, uncaught, true, found);
+            Set<Integer> species = new HashSet<>();
+            for (Mon mon : found) {
+                assertTrue(uncaught.test(mon.species), "query " + q + " returned a caught species");
+                assertTrue(species.add(mon.species), "query " + q + " returned species " + mon.species + " twice");
+            }
+        }
+    }
+
+    @Test
+    void stopsAtTheFirstRingWhenItHoldsEnough() {
+        SpatialHash<Mon> dense = new SpatialHash<>();
+        for (int i = 0; i < 50; i++) {
+            Mon mon = new Mon();
+            mon.x = 4 + random.nextDouble() * 8;
+            mon.y = 64;
+            mon.z = 4 + random.nextDouble() * 8;
+            mon.species = 1;
+            dense.put(mon, mon.x, mon.y, mon.z, mon.species);
+        }
+        List<Mon> found = new ArrayList<>();
+        dense.nearest(8, 64, 8, 128, LIMIT, uncaught, false, found);
+        assertEquals(LIMIT, found.size());
+        // Everything is within 8 blocks: the first ring around the player's column settles it, out of 17x17
+        assertEquals(9, dense.cellsVisited());
+
+        dense.clear();
+        dense.nearest(8, 64, 8, 128, LIMIT, uncaught, false, found);
+        assertEquals(0, found.size(), "results after clear");
+    }
+
+    private void compare() {
+        List<Mon> found = new ArrayList<>();
+        for (int q = 0; q < QUERIES; q++) {
+            double x = random.nextDouble() * WORLD - WORLD / 2;
+            double y = 70;
+            double z = random.nextDouble() * WORLD - WORLD / 2;
+            boolean distinct = (q & 1) == 0;
+            hash.nearest(x, y, z, RADIUS, LIMIT, uncaught, distinct, found);
+
+            List<Double> expected = bruteForce(x, y, z, distinct);
+            assertEquals(expected.size(), found.size(), "results of query " + q);
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), distanceSqr(found.get(i), x, y, z), EPSILON,
+                        "distance of result " + i + " of query " + q);
+            }
+        }
+    }
+
+    private List<Double> bruteForce(double x, double y, double z, boolean distinct) {
+        List<Mon> candidates = new ArrayList<>();
+        for (Mon mon : world) {
+            if (uncaught.test(mon.species) && distanceSqr(mon, x, y, z) <= RADIUS * RADIUS) candidates.add(mon);
+        }
+        candidates.sort((a, b) -> Double.compare(distanceSqr(a, x, y, z), distanceSqr(b, x, y, z)));
+        List<Double> out = new ArrayList<>();
+        Set<Integer> species = new HashSet<>();
+        for (Mon mon : candidates) {
+            if (out.size() == LIMIT) break;
+            if (distinct && !species.add(mon.species)) continue;
+            out.add(distanceSqr(mon, x, y, z));
+        }
+        return out;
+    }
+
+    private static double distanceSqr(Mon mon, double x, double y, double z) {
+        double dx = mon.x - x, dy = mon.y - y, dz = mon.z - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+}
@@ -0,0 +1,28 @@
+package com.levelscraft7.catchindicator.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SpeciesIndexTest {
+
+    @Test
+    void lookupResolvesEverySpellingOfAnInternedSpecies() {
+        SpeciesIndex index = new SpeciesIndex();
+        int id = index.intern("cobblemon:bulbasaur");
+        assertEquals(id, index.lookup("cobblemon:bulbasaur"));
+        assertEquals(id, index.lookup("bulbasaur"));
+        assertEquals(id, index.lookup(" bulbasaur "));
+    }
+
+    @Test
+    void lookupNeverInterns() {
+        SpeciesIndex index = new SpeciesIndex();
+        index.intern("cobblemon:bulbasaur");
+        assertEquals(SpeciesIndex.NO_ID, index.lookup("cobblemon:missingno"));
+        assertEquals(SpeciesIndex.NO_ID, index.lookup("not a species at all"));
+        assertEquals(SpeciesIndex.NO_ID, index.lookup(" "));
+        assertEquals(1, index.size());
+        assertEquals(SpeciesIndex.NO_ID, index.find("cobblemon:missingno"));
+    }
+}
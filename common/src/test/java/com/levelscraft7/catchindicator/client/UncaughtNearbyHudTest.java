@@ -0,0 +1,31 @@
+package com.levelscraft7.catchindicator.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UncaughtNearbyHudTest {
+
+    // Yaw 0 faces +Z; yaw grows clockwise, so -X is on the right
+
+    @Test
+    void arrowsFacingSouth() {
+        assertEquals(0, UncaughtNearbyHud.arrowIndex(0, 10, 0f), "ahead");
+        assertEquals(1, UncaughtNearbyHud.arrowIndex(-10, 10, 0f), "ahead-right");
+        assertEquals(2, UncaughtNearbyHud.arrowIndex(-10, 0, 0f), "right");
+        assertEquals(4, UncaughtNearbyHud.arrowIndex(0, -10, 0f), "behind");
+        assertEquals(6, UncaughtNearbyHud.arrowIndex(10, 0, 0f), "left");
+    }
+
+    @Test
+    void arrowsFollowTheViewerYaw() {
+        assertEquals(0, UncaughtNearbyHud.arrowIndex(-10, 0, 90f), "ahead facing west");
+        assertEquals(0, UncaughtNearbyHud.arrowIndex(0, -10, 180f), "ahead facing north");
+    }
+
+    @Test
+    void arrowsWrapTheYaw() {
+        assertEquals(0, UncaughtNearbyHud.arrowIndex(0, 10, 720f), "unwrapped yaw");
+        assertEquals(6, UncaughtNearbyHud.arrowIndex(0, -10, -90f), "negative yaw");
+    }
+}
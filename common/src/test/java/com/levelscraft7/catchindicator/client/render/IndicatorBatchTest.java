@@ -0,0 +1,201 @@
+package com.levelscraft7.catchindicator.client.render;
+
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import org.joml.Matrix4f;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The indicator quads {@link IndicatorBatch} hands to the vertex consumer: corner order and UVs, the nametag
+ * transform, color and light packing, the see-through pass and reuse across frames. Nothing here touches GL;
+ * vertices are recorded as they would be written to the buffer.
+ */
+class IndicatorBatchTest {
+
+    private static final float EPSILON = 1e-5f;
+    private static final int LIGHT = 0x00F000F0;
+
+    @Test
+    void cornersAndUvs() {
+        IndicatorBatch batch = new IndicatorBatch(1);
+        batch.add(new Matrix4f(), -20f, -2f, 11f, IndicatorIcon.CAUGHT.argb(), LIGHT, false);
+        Recorder out = new Recorder();
+        assertEquals(1, batch.emit(out, false), "quads emitted");
+        assertEquals(4, out.vertices.size(), "vertices");
+
+        float[][] corners = {{-20f, -2f}, {-20f, 9f}, {-9f, 9f}, {-9f, -2f}};
+        float[][] uvs = {{0f, 0f}, {0f, 1f}, {1f, 1f}, {1f, 0f}};
+        for (int i = 0; i < 4; i++) {
+            Vertex v = out.vertices.get(i);
+            assertCorner("corner " + i, corners[i][0], corners[i][1], 0f, v);
+            assertEquals(uvs[i][0], v.u, EPSILON, "u " + i);
+            assertEquals(uvs[i][1], v.v, EPSILON, "v " + i);
+            assertEquals(IndicatorIcon.CAUGHT.argb(), v.argb(), "color " + i);
+            assertEquals(LIGHT & 0xFFFF, v.lightU, "block light " + i);
+            assertEquals(LIGHT >>> 16, v.lightV, "sky light " + i);
+        }
+    }
+
+    @Test
+    void nametagTransform() {
+        // What IndicatorRenderer builds for a nametag: anchor, camera yaw, 0.025 scale with y flipped
+        float tx = 3f, ty = 2.5f, tz = -7f, yaw = 0.7f, scale = 0.025f;
+        Matrix4f pose = new Matrix4f().translate(tx, ty, tz).rotateY(yaw).scale(scale, -scale, scale);
+        IndicatorBatch batch = new IndicatorBatch(1);
+        batch.add(pose, -30f, -2f, 11f, IndicatorIcon.FORM_MISSING.argb(), LIGHT, true);
+        Recorder out = new Recorder();
+        batch.emit(out, false);
+        assertEquals(4, out.vertices.size(), "vertices");
+
+        float[][] local = {{-30f, -2f}, {-30f, 9f}, {-19f, 9f}, {-19f, -2f}};
+        float cos = (float) Math.cos(yaw), sin = (float) Math.sin(yaw);
+        for (int i = 0; i < 4; i++) {
+            float x = local[i][0] * scale, y = -local[i][1] * scale;
+            assertCorner("corner " + i, tx + x * cos, ty + y, tz - x * sin, out.vertices.get(i));
+            assertEquals(IndicatorIcon.FORM_MISSING.argb(), out.vertices.get(i).argb(), "color " + i);
+        }
+    }
+
+    @Test
+    void seeThroughPassSkipsSneakingAndFades() {
+        IndicatorBatch batch = new IndicatorBatch(4);
+        batch.add(new Matrix4f(), 0f, 0f, 1f, IndicatorIcon.CAUGHT.argb(), LIGHT, true);
+        batch.add(new Matrix4f(), 5f, 0f, 1f, IndicatorIcon.FORM_MISSING.argb(), LIGHT, false);
+        batch.add(new Matrix4f(), 10f, 0f, 1f, IndicatorIcon.FORM_MISSING.argb(), LIGHT, true);
+        assertTrue(batch.hasSeeThrough());
+
+        Recorder faded = new Recorder();
+        assertEquals(2, batch.emit(faded, true), "see-through quads");
+        assertEquals(8, faded.vertices.size(), "see-through vertices");
+        assertEquals(0f, faded.vertices.get(0).x, EPSILON, "first quad x");
+        assertEquals(10f, faded.vertices.get(4).x, EPSILON, "sneaking quad skipped");
+        int expectedArgb = IndicatorBatch.SEE_THROUGH_ALPHA << 24 | (IndicatorIcon.FORM_MISSING.argb() & 0xFFFFFF);
+        assertEquals(expectedArgb, faded.vertices.get(4).argb(), "faded color");
+
+        assertEquals(3, batch.emit(new Recorder(), false), "normal pass quads");
+    }
+
+    @Test
+    void noSeeThroughWhenEveryoneSneaks() {
+        IndicatorBatch sneaking = new IndicatorBatch(1);
+        sneaking.add(new Matrix4f(), 0f, 0f, 1f, IndicatorIcon.CAUGHT.argb(), LIGHT, false);
+        assertFalse(sneaking.hasSeeThrough());
+    }
+
+    @Test
+    void growsAndKeepsEveryQuad() {
+        IndicatorBatch batch = new IndicatorBatch(4);
+        int quads = 1000;
+        fill(batch, quads);
+        assertEquals(quads, batch.size());
+        Recorder out = new Recorder();
+        batch.emit(out, false);
+        assertEquals(quads * 4, out.vertices.size());
+        assertEquals(0f, out.vertices.get(0).x, EPSILON, "first quad kept");
+        assertEquals((quads - 1) * 2f, out.vertices.get((quads - 1) * 4).x, EPSILON, "last quad kept");
+    }
+
+    @Test
+    void clearResetsAndKeepsCapacity() {
+        IndicatorBatch batch = new IndicatorBatch(4);
+        int quads = 1000;
+        fill(batch, quads);
+        int capacity = batch.capacity();
+        batch.clear();
+        assertTrue(batch.isEmpty());
+        assertFalse(batch.hasSeeThrough());
+        assertEquals(0, batch.emit(new Recorder(), false), "nothing emitted after clear");
+
+        fill(batch, quads);
+        assertEquals(capacity, batch.capacity(), "no growth for an equally busy frame");
+    }
+
+    @Test
+    void iconTracksTheCenteredName() {
+        float bare = IndicatorRenderer.iconLeft(0);
+        assertTrue(bare < 0f, "icon left of an empty name");
+        for (int width : new int[]{1, 24, 57, 200}) {
+            assertEquals(bare - width / 2f, IndicatorRenderer.iconLeft(width), EPSILON, "width " + width);
+        }
+    }
+
+    private static void fill(IndicatorBatch batch, int quads) {
+        Matrix4f identity = new Matrix4f();
+        for (int i = 0; i < quads; i++) {
+            batch.add(identity, i * 2f, 0f, 1f, IndicatorIcon.CAUGHT.argb(), LIGHT, (i & 1) == 0);
+        }
+    }
+
+    private static void assertCorner(String what, float x, float y, float z, Vertex actual) {
+        assertEquals(x, actual.x, EPSILON, what + " x");
+        assertEquals(y, actual.y, EPSILON, what + " y");
+        assertEquals(z, actual.z, EPSILON, what + " z");
+    }
+
+    private static final class Vertex {
+        float x, y, z, u, v;
+        int r, g, b, a, lightU, lightV;
+
+        int argb() {
+            return a << 24 | r << 16 | g << 8 | b;
+        }
+    }
+
+    /**
+     * Records vertices the way {@code RenderType.text} lays them out: position, color, UV, lightmap.
+     */
+    private static final class Recorder implements VertexConsumer {
+
+        final List<Vertex> vertices = new ArrayList<>();
+        private Vertex current;
+
+        @Override
+        public VertexConsumer addVertex(float x, float y, float z) {
+            current = new Vertex();
+            current.x = x;
+            current.y = y;
+            current.z = z;
+            vertices.add(current);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setColor(int r, int g, int b, int a) {
+            current.r = r;
+            current.g = g;
+            current.b = b;
+            current.a = a;
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setUv(float u, float v) {
+            current.u = u;
+            current.v = v;
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setUv1(int u, int v) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setUv2(int u, int v) {
+            current.lightU = u;
+            current.lightV = v;
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setNormal(float x, float y, float z) {
+            return this;
+        }
+    }
+}
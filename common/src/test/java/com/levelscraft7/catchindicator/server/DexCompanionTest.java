@@ -0,0 +1,100 @@
+package com.levelscraft7.catchindicator.server;
+
+import com.levelscraft7.catchindicator.core.DiscoveryStatus;
+import com.levelscraft7.catchindicator.core.adapter.CobblemonAdapter;
+import com.levelscraft7.catchindicator.network.DexSyncPayload;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DexCompanionTest {
+
+    private static final byte CAUGHT = DexSyncPayload.FLAG_CAUGHT;
+    private static final byte SEEN = DexSyncPayload.FLAG_SEEN;
+
+    // A species record: its own knowledge and its forms' (form key -> status)
+    private record Dex(DiscoveryStatus knowledge, Map<String, DiscoveryStatus> forms) {
+    }
+
+    // Cobblemon is not on the test classpath; the diff only reads records and forms
+    private static final CobblemonAdapter ADAPTER = (CobblemonAdapter) Proxy.newProxyInstance(
+            CobblemonAdapter.class.getClassLoader(), new Class<?>[]{CobblemonAdapter.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "recordKnowledge" -> ((Dex) args[0]).knowledge();
+                case "formRecords" -> ((Dex) args[0]).forms();
+                case "formStatus" -> args[0];
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+
+    private final Map<String, Dex> records = new LinkedHashMap<>();
+    private final DexCompanion.PlayerState state = new DexCompanion.PlayerState();
+
+    @Test
+    void firstReadSendsTheWholeState() {
+        records.put("cobblemon:vulpix", new Dex(DiscoveryStatus.UNKNOWN, forms("alola", DiscoveryStatus.CAUGHT)));
+        records.put("cobblemon:eevee", new Dex(DiscoveryStatus.SEEN, Map.of()));
+        records.put("cobblemon:mew", new Dex(DiscoveryStatus.UNKNOWN, Map.of()));
+
+        DexSyncPayload payload = state.diff(ADAPTER, records);
+        assertTrue(payload.full());
+        assertEquals(0, payload.firstNewId());
+        assertEquals(List.of("cobblemon:vulpix/alola", "cobblemon:vulpix", "cobblemon:eevee"), payload.newKeys());
+        assertArrayEquals(new int[]{0, 1, 2}, payload.ids());
+        assertArrayEquals(new byte[]{CAUGHT, CAUGHT, SEEN}, payload.flags());
+    }
+
+    @Test
+    void unchangedReadSendsNothing() {
+        records.put("cobblemon:eevee", new Dex(DiscoveryStatus.SEEN, forms("normal", DiscoveryStatus.SEEN)));
+        state.diff(ADAPTER, records);
+        assertNull(state.diff(ADAPTER, records));
+        assertNull(state.diff(ADAPTER, records));
+    }
+
+    @Test
+    void changesAreSentAsDeltas() {
+        records.put("cobblemon:eevee", new Dex(DiscoveryStatus.SEEN, Map.of()));
+        records.put("cobblemon:pikachu", new Dex(DiscoveryStatus.SEEN, Map.of()));
+        state.diff(ADAPTER, records);
+
+        records.put("cobblemon:pikachu", new Dex(DiscoveryStatus.CAUGHT, Map.of()));
+        DexSyncPayload caught = state.diff(ADAPTER, records);
+        assertFalse(caught.full());
+        assertEquals(List.of(), caught.newKeys());
+        assertArrayEquals(new int[]{1}, caught.ids());
+        assertArrayEquals(new byte[]{CAUGHT}, caught.flags());
+
+        records.put("cobblemon:eevee", new Dex(DiscoveryStatus.SEEN, forms("normal", DiscoveryStatus.CAUGHT)));
+        DexSyncPayload form = state.diff(ADAPTER, records);
+        assertEquals(2, form.firstNewId());
+        assertEquals(List.of("cobblemon:eevee/normal"), form.newKeys());
+        assertArrayEquals(new int[]{0, 2}, form.ids());
+        assertArrayEquals(new byte[]{CAUGHT, CAUGHT}, form.flags());
+
+        assertNull(state.diff(ADAPTER, records));
+    }
+
+    @Test
+    void forgottenEntriesAreClearedOnTheClient() {
+        records.put("cobblemon:eevee", new Dex(DiscoveryStatus.SEEN, Map.of()));
+        state.diff(ADAPTER, records);
+
+        records.put("cobblemon:eevee", new Dex(DiscoveryStatus.UNKNOWN, Map.of()));
+        DexSyncPayload payload = state.diff(ADAPTER, records);
+        assertArrayEquals(new int[]{0}, payload.ids());
+        assertArrayEquals(new byte[]{0}, payload.flags());
+    }
+
+    private static Map<String, DiscoveryStatus> forms(String form, DiscoveryStatus status) {
+        return Map.of(form, status);
+    }
+}
@@ -1,10 +1,12 @@
 package com.levelscraft7.catchindicator.fabric.client;
 
+import com.levelscraft7.catchindicator.client.CatchIndicatorClient;
 import net.fabricmc.api.ClientModInitializer;
 
 public final class CatchIndicatorFabricClient implements ClientModInitializer {
     @Override
     public void onInitializeClient() {
         // Client-only init (renderers, keybinds, client networking, etc.)
+        CatchIndicatorClient.init();
     }
 }
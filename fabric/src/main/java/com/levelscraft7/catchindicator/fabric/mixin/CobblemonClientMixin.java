@@ -1,6 +1,6 @@
 package com.levelscraft7.catchindicator.fabric.mixin;
 
-import com.levelscraft7.catchindicator.client.PokedexRefreshManager;
+import com.levelscraft7.catchindicator.client.PokedexIngestion;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Pseudo;
 import org.spongepowered.asm.mixin.injection.At;
@@ -21,6 +21,6 @@ public class CobblemonClientMixin {
     @Inject(method = "setClientPokedexData", at = @At("TAIL"), remap = false, require = 0)
     private void catchindicator$onClientPokedexDataSet(Object newData, CallbackInfo ci) {
         // newData is com.cobblemon.mod.common.api.storage.player.client.ClientPokedexManager
-        PokedexRefreshManager.onPokedexSync(newData);
+        PokedexIngestion.submitFull(newData);
     }
 }
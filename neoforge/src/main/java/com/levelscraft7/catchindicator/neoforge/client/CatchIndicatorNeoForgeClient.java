@@ -0,0 +1,16 @@
+package com.levelscraft7.catchindicator.neoforge.client;
+
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.fml.common.Mod;
+
+import com.levelscraft7.catchindicator.CatchIndicator;
+import com.levelscraft7.catchindicator.client.CatchIndicatorClient;
+
+@Mod(value = CatchIndicator.MOD_ID, dist = Dist.CLIENT)
+public final class CatchIndicatorNeoForgeClient {
+    public CatchIndicatorNeoForgeClient(IEventBus modEventBus) {
+        // Client-only init (renderers, keybinds, client networking, etc.)
+        CatchIndicatorClient.init();
+    }
+}
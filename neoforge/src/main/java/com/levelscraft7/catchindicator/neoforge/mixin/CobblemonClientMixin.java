@@ -1,6 +1,6 @@
 package com.levelscraft7.catchindicator.neoforge.mixin;
 
-import com.levelscraft7.catchindicator.client.PokedexRefreshManager;
+import com.levelscraft7.catchindicator.client.PokedexIngestion;
 import com.cobblemon.mod.common.api.storage.player.client.ClientPokedexManager;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Pseudo;
@@ -26,9 +26,8 @@ public class CobblemonClientMixin {
             ClientPokedexManager newData,
             CallbackInfo ci
     ) {
-        net.minecraft.client.Minecraft.getInstance().execute(() -> {
-            PokedexRefreshManager.onPokedexSync(newData);
-        });
+        // Queued for the ingestion worker; the scan never runs on the thread that applied the packet
+        PokedexIngestion.submitFull(newData);
     }
 }
 